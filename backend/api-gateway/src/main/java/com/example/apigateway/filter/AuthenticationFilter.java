@@ -6,10 +6,15 @@ import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFac
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
 
 import com.example.apigateway.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.core.publisher.Mono;
 
 @Component
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
@@ -20,6 +25,9 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
     public AuthenticationFilter() {
         super(Config.class);
     }
@@ -36,30 +44,41 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
                 if (authHeader != null && authHeader.startsWith("Bearer ")) {
                     authHeader = authHeader.substring(7);
                 }
-                try {
-                    jwtUtil.validateToken(authHeader);
-
-                    // RBAC Logic
-                    Claims claims = jwtUtil.getAllClaimsFromToken(authHeader);
-                    String role = claims.get("role", String.class);
-                    String path = exchange.getRequest().getURI().getPath();
-                    String method = exchange.getRequest().getMethod().name();
-
-                    if (!hasPermission(role, path, method)) {
+                String token = authHeader;
+                // The server request observation travels in the Reactor context, not in a thread local
+                return Mono.deferContextual(context -> {
+                    Observation observation = Observation.createNotStarted("gateway.authentication", observationRegistry)
+                            .parentObservation(context.getOrDefault(ObservationThreadLocalAccessor.KEY, null));
+                    boolean permitted = observation.observe(() -> isPermitted(token, exchange));
+                    if (!permitted) {
                         exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
                         return exchange.getResponse().setComplete();
                     }
-
-                } catch (Exception e) {
-                    System.out.println("invalid access...!" + e.getMessage());
-                    throw new RuntimeException("unauthorized access to application");
-                }
+                    return chain.filter(exchange);
+                });
             }
             return chain.filter(exchange);
         });
     }
 
-    private boolean hasPermission(String role, String path, String method) {
+    private boolean isPermitted(String token, ServerWebExchange exchange) {
+        try {
+            jwtUtil.validateToken(token);
+
+            // RBAC Logic
+            Claims claims = jwtUtil.getAllClaimsFromToken(token);
+            String role = claims.get("role", String.class);
+            String path = exchange.getRequest().getURI().getPath();
+            String method = exchange.getRequest().getMethod().name();
+
+            return hasPermission(role, path, method);
+        } catch (Exception e) {
+            System.out.println("invalid access...!" + e.getMessage());
+            throw new RuntimeException("unauthorized access to application");
+        }
+    }
+
+    boolean hasPermission(String role, String path, String method) {
         if ("ROLE_ADMIN".equals(role)) {
             return true; // Admin has full access
         }
@@ -0,0 +1,48 @@
+package com.example.apigateway.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The role check the gateway runs on every secured request, over a mix of paths and methods.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionCheckBenchmark {
+
+	private static final String[][] REQUESTS = {
+			{"/api/order", "POST"},
+			{"/api/product/12", "GET"},
+			{"/api/product", "PUT"},
+			{"/api/inventory/inbound", "POST"},
+			{"/api/pricing/price/bulk", "POST"},
+			{"/api/payment/refund/7", "POST"},
+			{"/api/customer/3", "GET"},
+			{"/api/inventory/5", "DELETE"}};
+
+	@Param({"ROLE_ADMIN", "ROLE_STAFF", "ROLE_USER"})
+	private String role;
+
+	private final AuthenticationFilter filter = new AuthenticationFilter();
+	private int next;
+
+	@Benchmark
+	public boolean hasPermission() {
+		String[] request = REQUESTS[next++ & (REQUESTS.length - 1)];
+		return filter.hasPermission(role, request[0], request[1]);
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.apigateway.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifying and parsing a token the way identity-service issues them. {@code validateAndReadClaims}
+ * is what {@code AuthenticationFilter} does per request: it validates the token and then parses it again
+ * to read the role.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+	private final JwtUtil jwtUtil = new JwtUtil();
+	private String token;
+
+	@Setup
+	public void setUp() {
+		long now = System.currentTimeMillis();
+		token = Jwts.builder()
+				.subject("staff")
+				.claim("role", "ROLE_STAFF")
+				.issuedAt(new Date(now))
+				// Outlives any benchmark run
+				.expiration(new Date(now + TimeUnit.DAYS.toMillis(1)))
+				.signWith(Keys.hmacShaKeyFor(JwtUtil.SECRET.getBytes()))
+				.compact();
+	}
+
+	@Benchmark
+	public Claims getAllClaimsFromToken() {
+		return jwtUtil.getAllClaimsFromToken(token);
+	}
+
+	@Benchmark
+	public String validateAndReadClaims() {
+		jwtUtil.validateToken(token);
+		return jwtUtil.getAllClaimsFromToken(token).get("role", String.class);
+	}
+}
@@ -0,0 +1,47 @@
+package com.example.inventoryservice.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The conversion behind {@code InventoryService.convertUnits} for each kind of rule: same unit, a known
+ * conversion and a missing one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitConversionBenchmark {
+
+	@Param({"kg:kg", "kg:gram", "box:unit", "kg:box"})
+	private String conversion;
+
+	private final Double quantity = 12.5;
+	private String fromUnit;
+	private String toUnit;
+
+	@Setup
+	public void setUp() {
+		int separator = conversion.indexOf(':');
+		fromUnit = conversion.substring(0, separator);
+		toUnit = conversion.substring(separator + 1);
+	}
+
+	@Benchmark
+	public Double convertUnits() {
+		return InventoryService.convertQuantity(quantity, fromUnit, toUnit);
+	}
+}
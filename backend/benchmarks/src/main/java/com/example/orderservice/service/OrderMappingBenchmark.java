@@ -0,0 +1,81 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderResponse;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderItem;
+import com.example.orderservice.model.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping an order to its response DTO, as every order read does, and pricing its lines into the
+ * total, as every placed order does, for small to wholesale-sized baskets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+	@Param({"1", "10", "100"})
+	private int lines;
+
+	private final OrderMapper orderMapper = new OrderMapper();
+	private Order order;
+	private Map<Long, BigDecimal> prices;
+
+	@Setup
+	public void setUp() {
+		order = Order.builder()
+				.id(1L)
+				.orderNumber("ORD-02AIQKJWIR479")
+				.customerId(42L)
+				.orderDate(LocalDateTime.of(2025, 6, 1, 12, 0))
+				.status(OrderStatus.NEW)
+				.orderItems(new ArrayList<>())
+				.build();
+		prices = new HashMap<>();
+		for (long productId = 1; productId <= lines; productId++) {
+			BigDecimal price = BigDecimal.valueOf(50 + productId * 7919 % 1950, 2);
+			prices.put(productId, price);
+			order.getOrderItems().add(OrderItem.builder()
+					.id(productId)
+					.productId(productId)
+					.quantity(1 + (int) (productId % 5))
+					.unitPrice(price)
+					.order(order)
+					.build());
+		}
+		order.setTotalAmount(BigDecimal.TEN);
+	}
+
+	@Benchmark
+	public OrderResponse mapToOrderResponse() {
+		return orderMapper.mapToOrderResponse(order);
+	}
+
+	@Benchmark
+	public BigDecimal applyPrices() {
+		OrderService.applyPrices(order, prices);
+		return order.getTotalAmount();
+	}
+}
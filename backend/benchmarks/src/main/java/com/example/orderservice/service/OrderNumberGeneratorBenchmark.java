@@ -0,0 +1,63 @@
+package com.example.orderservice.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time-ordered generator with the previous {@code UUID.randomUUID()} order numbers,
+ * single-threaded and with several threads contending. Run from the IDE or with
+ * {@code mvn compile exec:exec -Djmh.include=OrderNumberGeneratorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderNumberGeneratorBenchmark {
+
+	private final TimeOrderedOrderNumberGenerator generator =
+			new TimeOrderedOrderNumberGenerator(1, System::currentTimeMillis);
+
+	@Benchmark
+	public String randomUuid() {
+		return UUID.randomUUID().toString();
+	}
+
+	@Benchmark
+	public String timeOrdered() {
+		return generator.nextOrderNumber();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String randomUuidContended() {
+		return UUID.randomUUID().toString();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String timeOrderedContended() {
+		return generator.nextOrderNumber();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(OrderNumberGeneratorBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.pricingservice.service;
+
+import com.example.pricingservice.model.Promotion;
+import com.example.pricingservice.model.Voucher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The BigDecimal arithmetic behind {@code applyPromotion}, {@code getEffectivePrices} and
+ * {@code applyVoucher}, without the repository lookups around it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingArithmeticBenchmark {
+
+	@Param({"0", "1", "3"})
+	private int promotions;
+
+	private final BigDecimal price = new BigDecimal("1.99");
+	private final BigDecimal orderTotal = new BigDecimal("123.45");
+	private List<Promotion> activePromotions;
+	private Voucher percentageVoucher;
+	private Voucher fixedVoucher;
+
+	@Setup
+	public void setUp() {
+		activePromotions = new ArrayList<>();
+		for (int i = 0; i < promotions; i++) {
+			boolean percentage = i % 2 == 0;
+			activePromotions.add(Promotion.builder()
+					.promotionType(percentage ? "PercentageDiscount" : "FixedDiscount")
+					.promotionValue(percentage ? 0.10 : 0.05)
+					.productIds(List.of(1L))
+					.build());
+		}
+		percentageVoucher = Voucher.builder().discountType("PERCENTAGE").voucherValue(15.0).build();
+		fixedVoucher = Voucher.builder().discountType("FIXED").voucherValue(5.0).build();
+	}
+
+	@Benchmark
+	public BigDecimal applyPromotions() {
+		return PricingService.applyPromotions(price, activePromotions);
+	}
+
+	@Benchmark
+	public BigDecimal applyPercentageVoucher() {
+		return PricingService.applyVoucherDiscount(percentageVoucher, orderTotal);
+	}
+
+	@Benchmark
+	public BigDecimal applyFixedVoucher() {
+		return PricingService.applyVoucherDiscount(fixedVoucher, orderTotal);
+	}
+}
@@ -6,7 +6,10 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.client.RestClient;
 
 @SpringBootApplication
 @EnableDiscoveryClient
@@ -17,6 +20,13 @@ public class CustomerServiceApplication {
 	}
 
 	@Bean
+	@LoadBalanced
+	public RestClient.Builder restClientBuilder() {
+		return RestClient.builder();
+	}
+
+	@Bean
+	@Profile("!synthetic")
 	public CommandLineRunner loadData(CustomerService customerService) {
 		return args -> {
 			// Create Customers
@@ -0,0 +1,36 @@
+package com.example.customerservice.client;
+
+import com.example.customerservice.dto.PurchaseHistoryResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+@Component
+public class OrderClient {
+
+    private final RestClient restClient;
+
+    public OrderClient(RestClient.Builder restClientBuilder,
+                       @Value("${customer.clients.order.base-url:http://order-service}") String baseUrl,
+                       @Value("${customer.clients.order.connect-timeout:2s}") Duration connectTimeout,
+                       @Value("${customer.clients.order.read-timeout:3s}") Duration readTimeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restClient = restClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    // Served from order-service's per-customer summary, a single primary-key read
+    public PurchaseHistoryResponse getOrderSummary(Long customerId) {
+        return restClient.get()
+                .uri("/api/order/customer/{customerId}/summary", customerId)
+                .retrieve()
+                .body(PurchaseHistoryResponse.class);
+    }
+}
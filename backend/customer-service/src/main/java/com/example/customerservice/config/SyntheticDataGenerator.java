@@ -0,0 +1,76 @@
+package com.example.customerservice.config;
+
+import com.example.synthetic.BatchInserter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static com.example.synthetic.SyntheticCatalog.tierOf;
+
+/**
+ * Seeds customers 1..n in place of the sample customers when the "synthetic" profile is active. Rows are
+ * written with batched JDBC inserts; identity ids are not batched by Hibernate. Membership levels follow
+ * the same rule order-service's generator uses to snapshot the tier on generated orders.
+ */
+@Component
+@Profile("synthetic")
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String INSERT_CUSTOMER = "INSERT INTO customer "
+            + "(name, email, address, phone, membership_level, membership_points) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Alice", "Bob", "Linh", "Minh", "Anna", "Carlos", "Mei", "Omar"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Johnson", "Nguyen", "Tran", "Garcia", "Chen", "Khan", "Brown", "Le"};
+    private static final String[] CITIES = {"Anytown", "Otherville", "Anyplace", "Hanoi", "Da Nang", "Springfield"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final int customers;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  @Value("${synthetic.seed:42}") long seed,
+                                  @Value("${synthetic.customers:100000}") int customers,
+                                  @Value("${synthetic.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.customers = customers;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!BatchInserter.isEmpty(jdbcTemplate, "customer")) {
+            log.info("Database already contains customers. Skipping synthetic data generation.");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+        BatchInserter inserter = new BatchInserter(jdbcTemplate, INSERT_CUSTOMER, batchSize);
+        for (long customerId = 1; customerId <= customers; customerId++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String tier = tierOf(customerId);
+            int points = switch (tier) {
+                case "Gold" -> 5000 + random.nextInt(20000);
+                case "Silver" -> 1000 + random.nextInt(4000);
+                default -> random.nextInt(1000);
+            };
+            inserter.add(
+                    firstName + " " + lastName,
+                    firstName.toLowerCase(Locale.ROOT) + "." + lastName.toLowerCase(Locale.ROOT) + customerId + "@example.com",
+                    (1 + random.nextInt(999)) + " Main St, " + CITIES[random.nextInt(CITIES.length)],
+                    String.format("+1555%07d", customerId % 10_000_000),
+                    tier,
+                    points);
+        }
+        inserter.flush();
+        log.info("Generated {} customers in {}ms", customers, System.currentTimeMillis() - started);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.customerservice.controller;
 
 import com.example.customerservice.dto.CustomerRequest;
 import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.dto.PurchaseHistoryResponse;
 import com.example.customerservice.service.CustomerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -54,7 +55,7 @@ public class CustomerController {
 
     @GetMapping("/{id}/history")
     @ResponseStatus(HttpStatus.OK)
-    public String getPurchaseHistory(@PathVariable Long id) {
+    public PurchaseHistoryResponse getPurchaseHistory(@PathVariable Long id) {
         return customerService.getPurchaseHistory(id);
     }
 }
@@ -0,0 +1,22 @@
+package com.example.customerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class PurchaseHistoryResponse {
+    private Long customerId;
+    private long orderCount;
+    private BigDecimal lifetimeSpend;
+    private LocalDateTime lastOrderDate;
+    private List<Long> recentOrderIds;
+}
@@ -1,13 +1,18 @@
 package com.example.customerservice.service;
 
+import com.example.customerservice.client.OrderClient;
 import com.example.customerservice.dto.CustomerRequest;
 import com.example.customerservice.dto.CustomerResponse;
+import com.example.customerservice.dto.PurchaseHistoryResponse;
 import com.example.customerservice.model.Customer;
 import com.example.customerservice.repository.CustomerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +23,7 @@ import java.util.Optional;
 public class CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final OrderClient orderClient;
 
     @Transactional
     public void createCustomer(CustomerRequest customerRequest) {
@@ -87,11 +93,14 @@ public class CustomerService {
         );
     }
 
-    // Placeholder for fetching purchase history
-    // This would ideally call the Order Service
-    public String getPurchaseHistory(Long customerId) {
+    public PurchaseHistoryResponse getPurchaseHistory(Long customerId) {
         log.info("Fetching purchase history for customer {}", customerId);
-        return "Purchase history for customer " + customerId + " (Not yet implemented, would call Order Service)";
+        try {
+            return orderClient.getOrderSummary(customerId);
+        } catch (RestClientException e) {
+            log.error("Could not fetch purchase history for customer {}", customerId, e);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Purchase history is currently unavailable", e);
+        }
     }
 
     private CustomerResponse mapToCustomerResponse(Customer customer) {
@@ -8,6 +8,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
 
 @SpringBootApplication
 @EnableDiscoveryClient
@@ -18,6 +19,7 @@ public class InventoryServiceApplication {
 	}
 
 	@Bean
+	@Profile("!synthetic")
 	public CommandLineRunner loadData(InventoryService inventoryService) {
 		return args -> {
 			// Add some inventory for Product ID 1 (e.g., Apple)
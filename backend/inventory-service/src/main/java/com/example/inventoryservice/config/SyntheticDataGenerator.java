@@ -0,0 +1,78 @@
+package com.example.inventoryservice.config;
+
+import com.example.synthetic.BatchInserter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Seeds inventory batches for products 1..n in place of the sample stock when the "synthetic" profile is
+ * active. Every product gets one or more batches with staggered import and expiration dates, some of them
+ * already expired. Popular products (low ids, as in order-service's generator) carry more stock. Rows are
+ * written with batched JDBC inserts; identity ids are not batched by Hibernate.
+ */
+@Component
+@Profile("synthetic")
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String INSERT_INVENTORY = "INSERT INTO t_inventory "
+            + "(product_id, quantity, batch_id, import_date, expiration_date, unit_of_measure) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String[] UNITS = {"kg", "box", "unit"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final int products;
+    private final int maxBatchesPerProduct;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  @Value("${synthetic.seed:42}") long seed,
+                                  @Value("${synthetic.products:10000}") int products,
+                                  @Value("${synthetic.max-batches-per-product:6}") int maxBatchesPerProduct,
+                                  @Value("${synthetic.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.products = products;
+        this.maxBatchesPerProduct = maxBatchesPerProduct;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!BatchInserter.isEmpty(jdbcTemplate, "t_inventory")) {
+            log.info("Database already contains inventory. Skipping synthetic data generation.");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now();
+        BatchInserter inserter = new BatchInserter(jdbcTemplate, INSERT_INVENTORY, batchSize);
+        for (long productId = 1; productId <= products; productId++) {
+            String unit = UNITS[random.nextInt(UNITS.length)];
+            int batches = 1 + random.nextInt(maxBatchesPerProduct);
+            int typicalQuantity = (int) Math.max(20, 5000 / Math.sqrt(productId));
+            for (int n = 1; n <= batches; n++) {
+                LocalDate importDate = today.minusDays(random.nextInt(90));
+                LocalDate expirationDate = importDate.plusDays(5 + random.nextInt(115));
+                inserter.add(
+                        productId,
+                        (int) (typicalQuantity * (0.5 + random.nextDouble())),
+                        String.format("BATCH-%d-%03d", productId, n),
+                        Date.valueOf(importDate),
+                        Date.valueOf(expirationDate),
+                        unit);
+            }
+        }
+        inserter.flush();
+        log.info("Generated {} inventory batches for {} products in {}ms", inserter.rows(), products,
+                System.currentTimeMillis() - started);
+    }
+}
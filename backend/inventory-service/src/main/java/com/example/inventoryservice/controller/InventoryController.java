@@ -2,14 +2,18 @@ package com.example.inventoryservice.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.example.inventoryservice.dto.InventoryRequest;
 import com.example.inventoryservice.dto.InventoryResponse;
+import com.example.inventoryservice.dto.StockReservationRequest;
+import com.example.inventoryservice.dto.StockReservationResponse;
 import com.example.inventoryservice.service.InventoryService;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/inventory")
@@ -36,6 +40,25 @@ public class InventoryController {
         return inventoryService.deductStock(productId, quantity);
     }
 
+    @PostMapping("/reserve")
+    @ResponseStatus(HttpStatus.OK)
+    public StockReservationResponse reserveStock(@RequestBody StockReservationRequest reservationRequest) {
+        return inventoryService.reserveStock(reservationRequest);
+    }
+
+    // Read-only stock levels for quoting; nothing is reserved
+    @PostMapping("/availability")
+    @ResponseStatus(HttpStatus.OK)
+    public Map<Long, Integer> getAvailability(@RequestBody List<Long> productIds) {
+        return inventoryService.getAvailability(productIds);
+    }
+
+    @PostMapping("/release")
+    @ResponseStatus(HttpStatus.OK)
+    public void releaseStock(@RequestBody StockReservationRequest releaseRequest) {
+        inventoryService.releaseStock(releaseRequest);
+    }
+
     @GetMapping("/expiring")
     @ResponseStatus(HttpStatus.OK)
     public List<InventoryResponse> getExpiringItems(@RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) LocalDate thresholdDate) {
@@ -65,4 +88,10 @@ public class InventoryController {
     public InventoryResponse getInventoryByProductId(@PathVariable Long productId) {
         return inventoryService.getInventoryByProductId(productId);
     }
+
+    // Malformed reservations and releases (missing items, non-positive quantities) are the caller's to fix
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalid(IllegalArgumentException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 }
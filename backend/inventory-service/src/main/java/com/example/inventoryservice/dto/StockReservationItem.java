@@ -0,0 +1,15 @@
+package com.example.inventoryservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StockReservationItem {
+    private Long productId;
+    private Integer quantity;
+}
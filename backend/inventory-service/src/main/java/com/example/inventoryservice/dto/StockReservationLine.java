@@ -0,0 +1,18 @@
+package com.example.inventoryservice.dto;
+
+import com.example.inventoryservice.model.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StockReservationLine {
+    private Long productId;
+    private Integer requested;
+    private Integer available; // null when the product has no inventory record
+    private ReservationStatus status;
+}
@@ -0,0 +1,18 @@
+package com.example.inventoryservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StockReservationRequest {
+    // Identifies the reservation; repeating a reservation or a release for the same order has no further effect
+    private String orderNumber;
+    private List<StockReservationItem> items;
+}
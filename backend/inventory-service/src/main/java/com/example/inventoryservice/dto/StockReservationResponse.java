@@ -0,0 +1,17 @@
+package com.example.inventoryservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StockReservationResponse {
+    private boolean reserved; // true only if every line was reserved
+    private List<StockReservationLine> lines;
+}
@@ -0,0 +1,7 @@
+package com.example.inventoryservice.model;
+
+public enum ReservationStatus {
+    RESERVED,
+    INSUFFICIENT,
+    MISSING
+}
@@ -0,0 +1,35 @@
+package com.example.inventoryservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// What was reserved for one order, so that reserving and releasing it again does not move stock twice
+@Entity
+@Table(name = "t_stock_reservations")
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false, unique = true)
+    private String orderNumber;
+    @Enumerated(EnumType.STRING)
+    private StockReservationState state;
+    // Product id to reserved quantity; empty for a release that arrived before, or instead of, its reservation
+    @ElementCollection
+    @CollectionTable(name = "t_stock_reservation_items", joinColumns = @JoinColumn(name = "reservation_id"))
+    @MapKeyColumn(name = "product_id")
+    @Column(name = "quantity")
+    private Map<Long, Integer> quantities;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,6 @@
+package com.example.inventoryservice.model;
+
+public enum StockReservationState {
+    RESERVED,
+    RELEASED
+}
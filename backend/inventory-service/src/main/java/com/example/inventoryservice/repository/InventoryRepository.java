@@ -1,6 +1,9 @@
 package com.example.inventoryservice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.inventoryservice.model.Inventory;
 
@@ -9,7 +12,25 @@ import java.util.Optional;
 
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
-    Optional<Inventory> findByProductId(Long productId);
+    // A product can have several batch rows; this is the one deductIfAvailable deducts from
+    Optional<Inventory> findFirstByProductIdOrderByIdAsc(Long productId);
 
     List<Inventory> findByProductIdIn(List<Long> productIds);
+
+    // Oldest row first, so keeping the first row per product picks the row deductIfAvailable updates
+    List<Inventory> findByProductIdInOrderByIdAsc(List<Long> productIds);
+
+    // Check and decrement in one statement, so concurrent deductions cannot both pass the check;
+    // only the product's oldest row is touched even if several exist
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Inventory i set i.quantity = i.quantity - :quantity "
+            + "where i.id = (select min(j.id) from Inventory j where j.productId = :productId) "
+            + "and i.quantity >= :quantity")
+    int deductIfAvailable(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    // Puts stock back on the row deductIfAvailable took it from
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Inventory i set i.quantity = i.quantity + :quantity "
+            + "where i.id = (select min(j.id) from Inventory j where j.productId = :productId)")
+    int restock(@Param("productId") Long productId, @Param("quantity") Integer quantity);
 }
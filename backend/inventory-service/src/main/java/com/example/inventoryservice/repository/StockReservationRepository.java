@@ -0,0 +1,23 @@
+package com.example.inventoryservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.inventoryservice.model.StockReservation;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    Optional<StockReservation> findByOrderNumber(String orderNumber);
+
+    // Only one of several deliveries of the same release can flip the state, so stock is put back once
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update StockReservation r set r.state = com.example.inventoryservice.model.StockReservationState.RELEASED, "
+            + "r.updatedAt = :now "
+            + "where r.orderNumber = :orderNumber and r.state = com.example.inventoryservice.model.StockReservationState.RESERVED")
+    int markReleased(@Param("orderNumber") String orderNumber, @Param("now") LocalDateTime now);
+}
@@ -4,15 +4,35 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import com.example.inventoryservice.dto.InventoryRequest;
 import com.example.inventoryservice.dto.InventoryResponse;
+import com.example.inventoryservice.dto.StockReservationItem;
+import com.example.inventoryservice.dto.StockReservationLine;
+import com.example.inventoryservice.dto.StockReservationRequest;
+import com.example.inventoryservice.dto.StockReservationResponse;
 import com.example.inventoryservice.model.Inventory;
+import com.example.inventoryservice.model.ReservationStatus;
+import com.example.inventoryservice.model.StockReservation;
+import com.example.inventoryservice.model.StockReservationState;
 import com.example.inventoryservice.repository.InventoryRepository;
+import com.example.inventoryservice.repository.StockReservationRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -20,10 +40,11 @@ import java.util.Optional;
 public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
+    private final StockReservationRepository stockReservationRepository;
 
     @Transactional(readOnly = true)
     public boolean isInStock(Long productId) {
-        return inventoryRepository.findByProductId(productId)
+        return inventoryRepository.findFirstByProductIdOrderByIdAsc(productId)
                 .map(inventory -> inventory.getQuantity() > 0)
                 .orElse(false);
     }
@@ -45,22 +66,117 @@ public class InventoryService {
 
     @Transactional
     public boolean deductStock(Long productId, Integer quantity) {
-        Optional<Inventory> inventoryOptional = inventoryRepository.findByProductId(productId);
+        if (quantity == null || quantity <= 0) {
+            log.warn("Rejected deduction of {} units from productId: {}", quantity, productId);
+            return false;
+        }
+        if (inventoryRepository.deductIfAvailable(productId, quantity) == 1) {
+            log.info("Deducted {} units from productId: {}", quantity, productId);
+            return true;
+        }
+        // Only read on failure, to tell a missing product from a short one in the log
+        Optional<Inventory> inventoryOptional = inventoryRepository.findFirstByProductIdOrderByIdAsc(productId);
         if (inventoryOptional.isPresent()) {
-            Inventory inventory = inventoryOptional.get();
-            if (inventory.getQuantity() >= quantity) {
-                inventory.setQuantity(inventory.getQuantity() - quantity);
-                inventoryRepository.save(inventory);
-                log.info("Deducted {} units from productId: {}", quantity, productId);
-                return true;
-            } else {
-                log.warn("Insufficient stock for productId: {}. Available: {}, Requested: {}", productId,
-                        inventory.getQuantity(), quantity);
-                return false;
-            }
+            log.warn("Insufficient stock for productId: {}. Available: {}, Requested: {}", productId,
+                    inventoryOptional.get().getQuantity(), quantity);
         } else {
             log.warn("Inventory not found for productId: {}", productId);
-            return false;
+        }
+        return false;
+    }
+
+    @Transactional
+    public StockReservationResponse reserveStock(StockReservationRequest reservationRequest) {
+        String orderNumber = requireOrderNumber(reservationRequest);
+        // Merge repeated products so each inventory row is checked against the full requested amount
+        Map<Long, Integer> requestedQuantities = mergeQuantities(reservationRequest);
+
+        // A retried reservation is answered from its record; one whose release got here first stays released
+        Optional<StockReservation> existing = stockReservationRepository.findByOrderNumber(orderNumber);
+        if (existing.isPresent()) {
+            log.info("Stock for order {} is already {}", orderNumber, existing.get().getState());
+            return StockReservationResponse.builder()
+                    .reserved(existing.get().getState() == StockReservationState.RESERVED)
+                    .lines(List.of())
+                    .build();
+        }
+
+        // Each line is a conditional update, so concurrent reservations cannot both take the last units.
+        // Rows are updated in product order, so two baskets sharing products lock them in the same order.
+        Set<Long> deducted = new HashSet<>();
+        for (Long productId : new TreeSet<>(requestedQuantities.keySet())) {
+            if (inventoryRepository.deductIfAvailable(productId, requestedQuantities.get(productId)) == 1) {
+                deducted.add(productId);
+            }
+        }
+
+        Map<Long, Inventory> inventories = inventoryRepository
+                .findByProductIdInOrderByIdAsc(new ArrayList<>(requestedQuantities.keySet())).stream()
+                .collect(Collectors.toMap(Inventory::getProductId, Function.identity(), (first, second) -> first));
+        List<StockReservationLine> lines = requestedQuantities.entrySet().stream()
+                .map(entry -> reservationLine(entry.getKey(), entry.getValue(), inventories.get(entry.getKey()),
+                        deducted.contains(entry.getKey())))
+                .toList();
+
+        boolean reserved = deducted.size() == requestedQuantities.size();
+        if (reserved) {
+            stockReservationRepository.save(StockReservation.builder()
+                    .orderNumber(orderNumber)
+                    .state(StockReservationState.RESERVED)
+                    .quantities(new HashMap<>(requestedQuantities))
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            log.info("Reserved stock of order {} for {} products", orderNumber, lines.size());
+        } else {
+            // All-or-nothing: the lines that did fit are put back by rolling the transaction back
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.warn("Stock reservation rejected: {}", lines.stream()
+                    .filter(line -> line.getStatus() != ReservationStatus.RESERVED)
+                    .toList());
+        }
+
+        return StockReservationResponse.builder()
+                .reserved(reserved)
+                .lines(lines)
+                .build();
+    }
+
+    // Quantity of each product's oldest row, the one a deduction takes from; products without inventory are left out
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getAvailability(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        return inventoryRepository.findByProductIdInOrderByIdAsc(productIds.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(Inventory::getProductId, Inventory::getQuantity, (first, second) -> first));
+    }
+
+    // Compensates an earlier reservation whose order was never stored by the order service. Releases are
+    // delivered at least once, so the quantities come from the reservation record and are put back only once.
+    @Transactional
+    public void releaseStock(StockReservationRequest releaseRequest) {
+        String orderNumber = requireOrderNumber(releaseRequest);
+        if (stockReservationRepository.markReleased(orderNumber, LocalDateTime.now()) == 1) {
+            // Copied before restocking: each update clears the persistence context
+            Map<Long, Integer> releasedQuantities = new TreeMap<>(stockReservationRepository
+                    .findByOrderNumber(orderNumber).orElseThrow().getQuantities());
+            releasedQuantities.forEach((productId, quantity) -> {
+                if (inventoryRepository.restock(productId, quantity) == 0) {
+                    log.warn("Cannot release {} units, inventory not found for productId: {}", quantity, productId);
+                }
+            });
+            log.info("Released stock of order {} for {} products", orderNumber, releasedQuantities.size());
+        } else if (stockReservationRepository.findByOrderNumber(orderNumber).isPresent()) {
+            log.info("Stock of order {} was already released", orderNumber);
+        } else {
+            // The reservation may still be on its way; recording the release makes it fail instead of leaking
+            stockReservationRepository.save(StockReservation.builder()
+                    .orderNumber(orderNumber)
+                    .state(StockReservationState.RELEASED)
+                    .quantities(new HashMap<>())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            log.info("Nothing reserved for order {} yet, recorded its release", orderNumber);
         }
     }
 
@@ -83,7 +199,7 @@ public class InventoryService {
 
     @Transactional(readOnly = true)
     public InventoryResponse getInventoryByProductId(Long productId) {
-        return inventoryRepository.findByProductId(productId)
+        return inventoryRepository.findFirstByProductIdOrderByIdAsc(productId)
                 .map(this::mapToInventoryResponse)
                 .orElse(null); // Or throw an exception
     }
@@ -93,6 +209,11 @@ public class InventoryService {
     public Double convertUnits(Long productId, Double quantity, String fromUnit, String toUnit) {
         log.info("Performing unit conversion for productId: {}, quantity: {}, from {} to {}", productId, quantity,
                 fromUnit, toUnit);
+        return convertQuantity(quantity, fromUnit, toUnit);
+    }
+
+    // Stateless so it can be measured without repositories
+    static Double convertQuantity(Double quantity, String fromUnit, String toUnit) {
         // Implement actual conversion logic here, possibly involving a lookup table or
         // external service
         // For now, a simple placeholder
@@ -108,6 +229,51 @@ public class InventoryService {
         return null; // Or throw an exception
     }
 
+    private static String requireOrderNumber(StockReservationRequest request) {
+        if (request.getOrderNumber() == null || request.getOrderNumber().isBlank()) {
+            throw new IllegalArgumentException("Order number is required");
+        }
+        return request.getOrderNumber();
+    }
+
+    // A negative quantity would move stock the other way, so it is refused rather than merged
+    private static Map<Long, Integer> mergeQuantities(StockReservationRequest request) {
+        if (request.getItems() == null) {
+            throw new IllegalArgumentException("Items are required");
+        }
+        for (StockReservationItem item : request.getItems()) {
+            if (item.getProductId() == null || item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Invalid quantity " + item.getQuantity()
+                        + " for productId: " + item.getProductId());
+            }
+        }
+        return request.getItems().stream()
+                .collect(Collectors.toMap(StockReservationItem::getProductId, StockReservationItem::getQuantity,
+                        Integer::sum, LinkedHashMap::new));
+    }
+
+    // Read after the deduction, so a deducted line reports what was available before it
+    private StockReservationLine reservationLine(Long productId, Integer requested, Inventory inventory, boolean deducted) {
+        ReservationStatus status;
+        if (deducted) {
+            status = ReservationStatus.RESERVED;
+        } else if (inventory == null) {
+            status = ReservationStatus.MISSING;
+        } else {
+            status = ReservationStatus.INSUFFICIENT;
+        }
+        Integer available = null;
+        if (inventory != null) {
+            available = deducted ? inventory.getQuantity() + requested : inventory.getQuantity();
+        }
+        return StockReservationLine.builder()
+                .productId(productId)
+                .requested(requested)
+                .available(available)
+                .status(status)
+                .build();
+    }
+
     private InventoryResponse mapToInventoryResponse(Inventory inventory) {
         return InventoryResponse.builder()
                 .id(inventory.getId())
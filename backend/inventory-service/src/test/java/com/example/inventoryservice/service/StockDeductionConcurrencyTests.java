@@ -0,0 +1,182 @@
+package com.example.inventoryservice.service;
+
+import com.example.inventoryservice.dto.StockReservationItem;
+import com.example.inventoryservice.dto.StockReservationLine;
+import com.example.inventoryservice.dto.StockReservationRequest;
+import com.example.inventoryservice.dto.StockReservationResponse;
+import com.example.inventoryservice.model.Inventory;
+import com.example.inventoryservice.model.ReservationStatus;
+import com.example.inventoryservice.repository.InventoryRepository;
+import com.example.inventoryservice.repository.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Each deduction commits on its own, as it would behind the controller, so the threads really contend
+@DataJpaTest
+@Import(InventoryService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockDeductionConcurrencyTests {
+
+	private static final long PRODUCT_ID = 999L;
+	private static final long OTHER_PRODUCT_ID = 998L;
+
+	@Autowired
+	private InventoryService inventoryService;
+
+	@Autowired
+	private InventoryRepository inventoryRepository;
+
+	@Autowired
+	private StockReservationRepository stockReservationRepository;
+
+	@AfterEach
+	void removeStock() {
+		stockReservationRepository.deleteAll();
+		inventoryRepository.deleteAll(inventoryRepository.findByProductIdIn(List.of(PRODUCT_ID, OTHER_PRODUCT_ID)));
+	}
+
+	@Test
+	void concurrentDeductionsNeverOversell() throws Exception {
+		int stock = 100;
+		int threads = 16;
+		int attemptsPerThread = 25;
+		Inventory inventory = stockRow(PRODUCT_ID, stock);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		try {
+			for (int t = 0; t < threads; t++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					int deducted = 0;
+					for (int i = 0; i < attemptsPerThread; i++) {
+						if (inventoryService.deductStock(PRODUCT_ID, 1)) {
+							deducted++;
+						}
+					}
+					return deducted;
+				}));
+			}
+			start.countDown();
+
+			int deducted = 0;
+			for (Future<Integer> result : results) {
+				deducted += result.get();
+			}
+
+			assertThat(deducted).isEqualTo(stock);
+			assertThat(inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity()).isZero();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void deductionLargerThanStockLeavesItUntouched() {
+		Inventory inventory = stockRow(PRODUCT_ID, 5);
+
+		assertThat(inventoryService.deductStock(PRODUCT_ID, 6)).isFalse();
+		assertThat(inventoryService.deductStock(PRODUCT_ID, 0)).isFalse();
+		assertThat(inventoryService.deductStock(PRODUCT_ID, 5)).isTrue();
+		assertThat(inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity()).isZero();
+	}
+
+	// Baskets of two products, one scarcer than the other: a basket only counts when both lines fit
+	@Test
+	void concurrentReservationsNeverOversell() throws Exception {
+		int threads = 16;
+		int attemptsPerThread = 10;
+		Inventory plentiful = stockRow(PRODUCT_ID, 100);
+		Inventory scarce = stockRow(OTHER_PRODUCT_ID, 60);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		try {
+			for (int t = 0; t < threads; t++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					int reserved = 0;
+					for (int i = 0; i < attemptsPerThread; i++) {
+						if (inventoryService.reserveStock(basket(OTHER_PRODUCT_ID, 1, PRODUCT_ID, 1)).isReserved()) {
+							reserved++;
+						}
+					}
+					return reserved;
+				}));
+			}
+			start.countDown();
+
+			int reserved = 0;
+			for (Future<Integer> result : results) {
+				reserved += result.get();
+			}
+
+			assertThat(reserved).isEqualTo(60);
+			assertThat(inventoryRepository.findById(scarce.getId()).orElseThrow().getQuantity()).isZero();
+			assertThat(inventoryRepository.findById(plentiful.getId()).orElseThrow().getQuantity()).isEqualTo(40);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void rejectedReservationPutsBackTheLinesThatFit() {
+		Inventory fits = stockRow(PRODUCT_ID, 5);
+		Inventory shortOfStock = stockRow(OTHER_PRODUCT_ID, 1);
+
+		StockReservationResponse response = inventoryService.reserveStock(basket(PRODUCT_ID, 3, OTHER_PRODUCT_ID, 2));
+
+		assertThat(response.isReserved()).isFalse();
+		assertThat(response.getLines()).extracting(StockReservationLine::getStatus)
+				.containsExactly(ReservationStatus.RESERVED, ReservationStatus.INSUFFICIENT);
+		assertThat(response.getLines()).extracting(StockReservationLine::getAvailable).containsExactly(5, 1);
+		assertThat(inventoryRepository.findById(fits.getId()).orElseThrow().getQuantity()).isEqualTo(5);
+		assertThat(inventoryRepository.findById(shortOfStock.getId()).orElseThrow().getQuantity()).isEqualTo(1);
+	}
+
+	@Test
+	void reservationWithNonPositiveQuantityIsRefused() {
+		Inventory inventory = stockRow(PRODUCT_ID, 5);
+		stockRow(OTHER_PRODUCT_ID, 5);
+
+		assertThatThrownBy(() -> inventoryService.reserveStock(basket(OTHER_PRODUCT_ID, 1, PRODUCT_ID, -3)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity()).isEqualTo(5);
+	}
+
+	private Inventory stockRow(long productId, int quantity) {
+		return inventoryRepository.save(Inventory.builder()
+				.productId(productId)
+				.quantity(quantity)
+				.unitOfMeasure("kg")
+				.build());
+	}
+
+	private static StockReservationRequest basket(long firstProductId, int firstQuantity,
+			long secondProductId, int secondQuantity) {
+		return StockReservationRequest.builder()
+				.orderNumber(UUID.randomUUID().toString())
+				.items(List.of(
+						StockReservationItem.builder().productId(firstProductId).quantity(firstQuantity).build(),
+						StockReservationItem.builder().productId(secondProductId).quantity(secondQuantity).build()))
+				.build();
+	}
+}
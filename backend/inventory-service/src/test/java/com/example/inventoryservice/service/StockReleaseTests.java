@@ -0,0 +1,84 @@
+package com.example.inventoryservice.service;
+
+import com.example.inventoryservice.dto.StockReservationItem;
+import com.example.inventoryservice.dto.StockReservationRequest;
+import com.example.inventoryservice.model.Inventory;
+import com.example.inventoryservice.repository.InventoryRepository;
+import com.example.inventoryservice.repository.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Releases arrive at least once and possibly before the reservation they compensate
+@DataJpaTest
+@Import(InventoryService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockReleaseTests {
+
+	private static final long PRODUCT_ID = 997L;
+
+	@Autowired
+	private InventoryService inventoryService;
+
+	@Autowired
+	private InventoryRepository inventoryRepository;
+
+	@Autowired
+	private StockReservationRepository stockReservationRepository;
+
+	@AfterEach
+	void removeStock() {
+		stockReservationRepository.deleteAll();
+		inventoryRepository.deleteAll(inventoryRepository.findByProductIdIn(List.of(PRODUCT_ID)));
+	}
+
+	@Test
+	void repeatedReservationAndReleaseMoveStockOnce() {
+		Inventory inventory = stockRow(10);
+
+		assertThat(inventoryService.reserveStock(request("ORD-1", 4)).isReserved()).isTrue();
+		assertThat(inventoryService.reserveStock(request("ORD-1", 4)).isReserved()).isTrue();
+		assertThat(quantityOf(inventory)).isEqualTo(6);
+
+		inventoryService.releaseStock(request("ORD-1", 4));
+		inventoryService.releaseStock(request("ORD-1", 4));
+		assertThat(quantityOf(inventory)).isEqualTo(10);
+	}
+
+	@Test
+	void releaseBeforeReservationMakesTheReservationFail() {
+		Inventory inventory = stockRow(10);
+
+		inventoryService.releaseStock(request("ORD-2", 4));
+
+		assertThat(inventoryService.reserveStock(request("ORD-2", 4)).isReserved()).isFalse();
+		assertThat(quantityOf(inventory)).isEqualTo(10);
+	}
+
+	private Inventory stockRow(int quantity) {
+		return inventoryRepository.save(Inventory.builder()
+				.productId(PRODUCT_ID)
+				.quantity(quantity)
+				.unitOfMeasure("kg")
+				.build());
+	}
+
+	private int quantityOf(Inventory inventory) {
+		return inventoryRepository.findById(inventory.getId()).orElseThrow().getQuantity();
+	}
+
+	private static StockReservationRequest request(String orderNumber, int quantity) {
+		return StockReservationRequest.builder()
+				.orderNumber(orderNumber)
+				.items(List.of(StockReservationItem.builder().productId(PRODUCT_ID).quantity(quantity).build()))
+				.build();
+	}
+}
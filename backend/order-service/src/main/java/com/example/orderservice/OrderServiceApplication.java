@@ -1,23 +1,29 @@
 package com.example.orderservice;
 
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableScheduling
 public class OrderServiceApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(OrderServiceApplication.class, args);
 	}
 
+	// Defining the builder here replaces Boot's, so the observation registry that propagates trace headers
+	// and records client spans has to be set explicitly. Test slices without observability get a no-op one.
 	@Bean
 	@LoadBalanced
-	public WebClient.Builder webClientBuilder() {
-		return WebClient.builder();
+	public WebClient.Builder webClientBuilder(ObjectProvider<ObservationRegistry> observationRegistry) {
+		return WebClient.builder().observationRegistry(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
 	}
 }
@@ -0,0 +1,23 @@
+package com.example.orderservice.client;
+
+import com.example.orderservice.config.DownstreamMetrics;
+import com.example.orderservice.dto.CustomerResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerClient {
+
+    private final WebClient customerWebClient;
+    private final DownstreamMetrics downstreamMetrics;
+
+    public Mono<CustomerResponse> getCustomer(Long customerId) {
+        return downstreamMetrics.timed("customer", "customer", customerWebClient.get()
+                .uri("/api/customer/{id}", customerId)
+                .retrieve()
+                .bodyToMono(CustomerResponse.class));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.orderservice.client;
+
+import com.example.orderservice.config.DownstreamGuard;
+import com.example.orderservice.config.DownstreamMetrics;
+import com.example.orderservice.dto.StockReservationItem;
+import com.example.orderservice.dto.StockReservationRequest;
+import com.example.orderservice.dto.StockReservationResponse;
+import com.example.orderservice.model.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class InventoryClient {
+
+    private static final ParameterizedTypeReference<Map<Long, Integer>> STOCK_MAP = new ParameterizedTypeReference<>() {};
+
+    private final WebClient inventoryWebClient;
+    private final DownstreamGuard inventoryGuard;
+    private final DownstreamMetrics downstreamMetrics;
+
+    public Mono<StockReservationResponse> reserve(Order order) {
+        return downstreamMetrics.timed("inventory", "reserve", inventoryGuard.protect(inventoryWebClient.post()
+                .uri("/api/inventory/reserve")
+                .bodyValue(toReservationRequest(order))
+                .retrieve()
+                .bodyToMono(StockReservationResponse.class)));
+    }
+
+    // Current stock levels, without reserving anything; products without inventory are missing from the map
+    public Mono<Map<Long, Integer>> getAvailability(Collection<Long> productIds) {
+        return downstreamMetrics.timed("inventory", "availability", inventoryGuard.protect(inventoryWebClient.post()
+                        .uri("/api/inventory/availability")
+                        .bodyValue(productIds)
+                        .retrieve()
+                        .bodyToMono(STOCK_MAP)))
+                .defaultIfEmpty(Map.of());
+    }
+
+    // Puts previously reserved quantities back into stock. Not guarded: compensations are needed most while
+    // inventory is degraded, when the breaker is open and the bulkhead full, and the relay retries them anyway
+    public Mono<Void> release(StockReservationRequest releaseRequest) {
+        return downstreamMetrics.timed("inventory", "release", inventoryWebClient.post()
+                .uri("/api/inventory/release")
+                .bodyValue(releaseRequest)
+                .retrieve()
+                .bodyToMono(Void.class));
+    }
+
+    public StockReservationRequest toReservationRequest(Order order) {
+        return StockReservationRequest.builder()
+                .orderNumber(order.getOrderNumber())
+                .items(order.getOrderItems().stream()
+                        .map(item -> StockReservationItem.builder()
+                                .productId(item.getProductId())
+                                .quantity(item.getQuantity())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.orderservice.client;
+
+import com.example.orderservice.config.DownstreamGuard;
+import com.example.orderservice.config.DownstreamMetrics;
+import com.example.orderservice.dto.VoucherResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PricingClient {
+
+    private static final ParameterizedTypeReference<Map<Long, BigDecimal>> PRICE_MAP = new ParameterizedTypeReference<>() {};
+
+    private final WebClient pricingWebClient;
+    private final DownstreamGuard pricingGuard;
+    private final DownstreamMetrics downstreamMetrics;
+
+    public Mono<Map<Long, BigDecimal>> getEffectivePrices(Collection<Long> productIds) {
+        return downstreamMetrics.timed("pricing", "prices", pricingGuard.protect(pricingWebClient.post()
+                        .uri("/api/pricing/price/bulk")
+                        .bodyValue(productIds)
+                        .retrieve()
+                        .bodyToMono(PRICE_MAP)))
+                .defaultIfEmpty(Map.of());
+    }
+
+    // Empty when no voucher has this code; an unknown code is an answer, not a failure of pricing-service
+    public Mono<VoucherResponse> getVoucher(String code) {
+        return downstreamMetrics.timed("pricing", "voucher", pricingGuard.protect(pricingWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/pricing/voucher").queryParam("code", code).build())
+                .retrieve()
+                .bodyToMono(VoucherResponse.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())));
+    }
+}
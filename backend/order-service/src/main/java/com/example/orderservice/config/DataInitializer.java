@@ -1,25 +1,35 @@
 package com.example.orderservice.config;
 
+import com.example.orderservice.event.OrderPlacedEvent;
+import com.example.orderservice.event.OrderStatusChangedEvent;
 import com.example.orderservice.model.Order;
 import com.example.orderservice.model.OrderItem;
 import com.example.orderservice.model.OrderStatus;
 import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.service.OrderNumberGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.UUID;
+import java.util.List;
 
 @Component
+@Profile("!synthetic")
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer implements CommandLineRunner {
 
     private final OrderRepository orderRepository;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void run(String... args) {
@@ -34,10 +44,12 @@ public class DataInitializer implements CommandLineRunner {
     }
 
     private void initializeSampleOrders() {
+        // Customer tiers match the membership levels of customer-service's sample customers
         // Sample Order 1: Completed order
         Order order1 = Order.builder()
-                .orderNumber("ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .orderNumber(orderNumberGenerator.nextOrderNumber())
                 .customerId(1L)
+                .customerTier("Bronze")
                 .orderDate(LocalDateTime.now().minusDays(5))
                 .status(OrderStatus.COMPLETED)
                 .totalAmount(new BigDecimal("45.98"))
@@ -68,12 +80,12 @@ public class DataInitializer implements CommandLineRunner {
         order1.getOrderItems().add(item1_1);
         order1.getOrderItems().add(item1_2);
         order1.getOrderItems().add(item1_3);
-        orderRepository.save(order1);
 
         // Sample Order 2: Processing order
         Order order2 = Order.builder()
-                .orderNumber("ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .orderNumber(orderNumberGenerator.nextOrderNumber())
                 .customerId(2L)
+                .customerTier("Silver")
                 .orderDate(LocalDateTime.now().minusDays(2))
                 .status(OrderStatus.PROCESSING)
                 .totalAmount(new BigDecimal("28.47"))
@@ -96,12 +108,12 @@ public class DataInitializer implements CommandLineRunner {
 
         order2.getOrderItems().add(item2_1);
         order2.getOrderItems().add(item2_2);
-        orderRepository.save(order2);
 
         // Sample Order 3: New order
         Order order3 = Order.builder()
-                .orderNumber("ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .orderNumber(orderNumberGenerator.nextOrderNumber())
                 .customerId(1L)
+                .customerTier("Bronze")
                 .orderDate(LocalDateTime.now().minusHours(3))
                 .status(OrderStatus.NEW)
                 .totalAmount(new BigDecimal("19.98"))
@@ -124,12 +136,12 @@ public class DataInitializer implements CommandLineRunner {
 
         order3.getOrderItems().add(item3_1);
         order3.getOrderItems().add(item3_2);
-        orderRepository.save(order3);
 
         // Sample Order 4: Delivering order
         Order order4 = Order.builder()
-                .orderNumber("ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .orderNumber(orderNumberGenerator.nextOrderNumber())
                 .customerId(3L)
+                .customerTier("Gold")
                 .orderDate(LocalDateTime.now().minusDays(1))
                 .status(OrderStatus.DELIVERING)
                 .totalAmount(new BigDecimal("67.45"))
@@ -160,12 +172,12 @@ public class DataInitializer implements CommandLineRunner {
         order4.getOrderItems().add(item4_1);
         order4.getOrderItems().add(item4_2);
         order4.getOrderItems().add(item4_3);
-        orderRepository.save(order4);
 
         // Sample Order 5: Cancelled order
         Order order5 = Order.builder()
-                .orderNumber("ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .orderNumber(orderNumberGenerator.nextOrderNumber())
                 .customerId(2L)
+                .customerTier("Silver")
                 .orderDate(LocalDateTime.now().minusDays(3))
                 .status(OrderStatus.CANCELLED)
                 .totalAmount(new BigDecimal("12.99"))
@@ -188,7 +200,19 @@ public class DataInitializer implements CommandLineRunner {
 
         order5.getOrderItems().add(item5_1);
         order5.getOrderItems().add(item5_2);
-        orderRepository.save(order5);
+
+        List<Order> orders = List.of(order1, order2, order3, order4, order5);
+        transactionTemplate.executeWithoutResult(status -> {
+            // Saved together so the orders and their items go out as batched inserts
+            orderRepository.saveAll(orders);
+            // Sample orders bypass OrderService, so replay their lifecycle for the summaries and rollups
+            for (Order order : orders) {
+                eventPublisher.publishEvent(OrderPlacedEvent.of(order));
+                if (order.getStatus() == OrderStatus.CANCELLED) {
+                    eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, OrderStatus.NEW, OrderStatus.CANCELLED));
+                }
+            }
+        });
 
         log.info("Created {} sample orders with various statuses", orderRepository.count());
     }
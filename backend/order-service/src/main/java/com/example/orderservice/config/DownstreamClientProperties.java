@@ -0,0 +1,28 @@
+package com.example.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.clients")
+public class DownstreamClientProperties {
+
+    private Client inventory = new Client();
+    private Client pricing = new Client();
+    private Client customer = new Client();
+
+    @Data
+    public static class Client {
+        private String baseUrl;
+        private int maxConnections = 100;
+        private int pendingAcquireMaxCount = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictionInterval = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration responseTimeout = Duration.ofSeconds(5);
+    }
+}
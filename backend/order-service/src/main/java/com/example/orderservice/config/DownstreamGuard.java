@@ -0,0 +1,34 @@
+package com.example.orderservice.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bulkhead, circuit breaker and time limiter of one downstream service, applied around each call to it.
+ */
+public class DownstreamGuard {
+
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final TimeLimiter timeLimiter;
+
+    public DownstreamGuard(Bulkhead bulkhead, CircuitBreaker circuitBreaker, TimeLimiter timeLimiter) {
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.timeLimiter = timeLimiter;
+    }
+
+    // The bulkhead is outermost so excess calls are shed before they reach the breaker; the time limiter
+    // is innermost so that timeouts count as breaker failures
+    public <T> Mono<T> protect(Mono<T> call) {
+        return call
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.orderservice.config;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Times every call to another service as {@code order.downstream.calls}, tagged with the dependency, the
+ * operation and how the call ended: {@code ok}, {@code timeout}, {@code rejected} by the bulkhead or
+ * circuit breaker, {@code error}, or {@code cancelled} by the caller.
+ */
+@Component
+@RequiredArgsConstructor
+public class DownstreamMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    // Wrap the guarded call, so time spent waiting for or being refused by the guard is included
+    public <T> Mono<T> timed(String dependency, String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(value -> stop(sample, dependency, operation, "ok"))
+                    .doOnError(e -> stop(sample, dependency, operation, outcome(e)))
+                    .doOnCancel(() -> stop(sample, dependency, operation, "cancelled"));
+        });
+    }
+
+    // Response timeouts surface from reactor-netty wrapped in a WebClientRequestException
+    public static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            return "rejected";
+        }
+        return isTimeout(e) ? "timeout" : "error";
+    }
+
+    private void stop(Timer.Sample sample, String dependency, String operation, String outcome) {
+        sample.stop(Timer.builder("order.downstream.calls")
+                .description("Calls from order-service to other services")
+                .tag("dependency", dependency)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "order.resilience")
+public class DownstreamResilienceProperties {
+
+    private Dependency inventory = new Dependency();
+    private Dependency pricing = new Dependency();
+
+    @Data
+    public static class Dependency {
+        // Bulkhead: calls in flight at once; further calls are rejected after maxWait, which is spent
+        // blocking the calling thread, so keep it at zero or very short
+        private int maxConcurrentCalls = 25;
+        private Duration maxWait = Duration.ZERO;
+        // Time limiter: upper bound for one call, including waiting for a pooled connection
+        private Duration timeout = Duration.ofSeconds(5);
+        // Circuit breaker
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 80;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        private int permittedNumberOfCallsInHalfOpenState = 3;
+    }
+}
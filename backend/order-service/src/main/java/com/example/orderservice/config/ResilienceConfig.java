@@ -0,0 +1,66 @@
+package com.example.orderservice.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedTimeLimiterMetrics;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Separate bulkhead, circuit breaker and time limiter per downstream service, so a slow or failing
+ * dependency sheds its own load instead of tying up every order thread. The registries are private to
+ * this configuration; their metrics are published as resilience4j.* meters tagged with the dependency name.
+ */
+@Configuration
+@EnableConfigurationProperties(DownstreamResilienceProperties.class)
+public class ResilienceConfig {
+
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+    private final TimeLimiterRegistry timeLimiters = TimeLimiterRegistry.ofDefaults();
+
+    public ResilienceConfig(MeterRegistry meterRegistry) {
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedTimeLimiterMetrics.ofTimeLimiterRegistry(timeLimiters).bindTo(meterRegistry);
+    }
+
+    @Bean
+    public DownstreamGuard inventoryGuard(DownstreamResilienceProperties properties) {
+        return buildGuard("inventory", properties.getInventory());
+    }
+
+    @Bean
+    public DownstreamGuard pricingGuard(DownstreamResilienceProperties properties) {
+        return buildGuard("pricing", properties.getPricing());
+    }
+
+    private DownstreamGuard buildGuard(String name, DownstreamResilienceProperties.Dependency dependency) {
+        return new DownstreamGuard(
+                bulkheads.bulkhead(name, BulkheadConfig.custom()
+                        .maxConcurrentCalls(dependency.getMaxConcurrentCalls())
+                        .maxWaitDuration(dependency.getMaxWait())
+                        .build()),
+                circuitBreakers.circuitBreaker(name, CircuitBreakerConfig.custom()
+                        .slidingWindowSize(dependency.getSlidingWindowSize())
+                        .minimumNumberOfCalls(dependency.getMinimumNumberOfCalls())
+                        .failureRateThreshold(dependency.getFailureRateThreshold())
+                        .slowCallRateThreshold(dependency.getSlowCallRateThreshold())
+                        .slowCallDurationThreshold(dependency.getSlowCallDurationThreshold())
+                        .waitDurationInOpenState(dependency.getWaitDurationInOpenState())
+                        .permittedNumberOfCallsInHalfOpenState(dependency.getPermittedNumberOfCallsInHalfOpenState())
+                        .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                        .build()),
+                timeLimiters.timeLimiter(name, TimeLimiterConfig.custom()
+                        .timeoutDuration(dependency.getTimeout())
+                        .build()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.orderservice.config;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Random;
+
+// Spreads orders over a range of days: busier towards the year-end holidays and on weekends, growing
+// over the range, and within a day around lunch and the evening
+final class SeasonalCalendar {
+
+    private static final double[] HOURLY = {
+            0.2, 0.1, 0.1, 0.1, 0.1, 0.2, 0.4, 0.8, 1.0, 1.1, 1.2, 1.5,
+            1.8, 1.6, 1.2, 1.1, 1.2, 1.5, 1.9, 2.1, 1.9, 1.4, 0.9, 0.5};
+    private static final double[] HOURLY_CUMULATIVE = cumulative(HOURLY);
+
+    private final LocalDate first;
+    private final double[] weights;
+
+    SeasonalCalendar(LocalDate last, int days) {
+        this.first = last.minusDays(days - 1L);
+        this.weights = new double[days];
+        for (int i = 0; i < days; i++) {
+            weights[i] = weight(first.plusDays(i)) * (1 + 0.5 * i / days);
+        }
+    }
+
+    LocalDate day(int index) {
+        return first.plusDays(index);
+    }
+
+    int days() {
+        return weights.length;
+    }
+
+    // Splits total over the days in proportion to their weight; the counts add up to exactly total
+    long[] dailyCounts(long total) {
+        double sum = 0;
+        for (double weight : weights) {
+            sum += weight;
+        }
+        long[] counts = new long[weights.length];
+        long assigned = 0;
+        double carried = 0;
+        for (int i = 0; i < weights.length - 1; i++) {
+            double exact = total * weights[i] / sum + carried;
+            counts[i] = (long) exact;
+            carried = exact - counts[i];
+            assigned += counts[i];
+        }
+        counts[weights.length - 1] = total - assigned;
+        return counts;
+    }
+
+    LocalDateTime timeOn(LocalDate day, Random random) {
+        double u = random.nextDouble();
+        int hour = 0;
+        while (hour < 23 && HOURLY_CUMULATIVE[hour] <= u) {
+            hour++;
+        }
+        return LocalDateTime.of(day, LocalTime.of(hour, random.nextInt(60), random.nextInt(60)));
+    }
+
+    private static double weight(LocalDate day) {
+        // Peaks around 21 December, lowest in the summer
+        double yearly = 1 + 0.3 * Math.cos(2 * Math.PI * (day.getDayOfYear() - 355) / 365.25);
+        DayOfWeek dayOfWeek = day.getDayOfWeek();
+        double weekly = switch (dayOfWeek) {
+            case SATURDAY, SUNDAY -> 1.35;
+            case FRIDAY -> 1.15;
+            default -> 1.0;
+        };
+        return yearly * weekly;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+}
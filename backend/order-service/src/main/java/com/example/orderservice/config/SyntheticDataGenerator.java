@@ -0,0 +1,247 @@
+package com.example.orderservice.config;
+
+import com.example.orderservice.model.CustomerOrderSummary;
+import com.example.orderservice.model.CustomerTierSalesRollup;
+import com.example.orderservice.model.DailySalesRollup;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderItem;
+import com.example.orderservice.model.OrderStatus;
+import com.example.orderservice.model.ProductSalesRollup;
+import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.service.CustomerOrderSummaryService;
+import com.example.orderservice.service.OrderNumberGenerator;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.synthetic.SyntheticCatalog.listPrice;
+import static com.example.synthetic.SyntheticCatalog.tierOf;
+
+/**
+ * Seeds a production-sized order history in place of {@link DataInitializer} when the "synthetic"
+ * profile is active. Orders are generated day by day in chronological order, so ids grow with the order
+ * date as they do in production. Product popularity and customer activity follow Zipf distributions,
+ * and daily volume is seasonal. The summaries and rollups are computed while generating and written
+ * once at the end, instead of replaying events for every order.
+ */
+@Component
+@Profile("synthetic")
+@EnableConfigurationProperties(SyntheticDataProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private final SyntheticDataProperties properties;
+    private final OrderRepository orderRepository;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public void run(String... args) {
+        if (orderRepository.count() > 0) {
+            log.info("Database already contains orders. Skipping synthetic data generation.");
+            return;
+        }
+        log.info("Generating {} synthetic orders over {} days...", properties.getOrders(), properties.getHistoryDays());
+        long started = System.nanoTime();
+        Random random = new Random(properties.getSeed());
+        ZipfSampler productSampler = new ZipfSampler(properties.getProducts(), properties.getProductSkew());
+        ZipfSampler customerSampler = new ZipfSampler(properties.getCustomers(), properties.getCustomerSkew());
+        SeasonalCalendar calendar = new SeasonalCalendar(LocalDate.now().minusDays(1), properties.getHistoryDays());
+        long[] dailyCounts = calendar.dailyCounts(properties.getOrders());
+        LocalDateTime now = LocalDateTime.now();
+        ReadModels readModels = new ReadModels();
+
+        List<Order> pending = new ArrayList<>(properties.getBatchSize());
+        long written = 0;
+        for (int dayIndex = 0; dayIndex < calendar.days(); dayIndex++) {
+            LocalDate day = calendar.day(dayIndex);
+            List<LocalDateTime> times = new ArrayList<>();
+            for (long i = 0; i < dailyCounts[dayIndex]; i++) {
+                times.add(calendar.timeOn(day, random));
+            }
+            times.sort(null);
+            for (LocalDateTime orderDate : times) {
+                long customerId = customerSampler.sample(random);
+                pending.add(randomOrder(customerId, orderDate, now, productSampler, random));
+                if (pending.size() == properties.getBatchSize()) {
+                    written += save(pending, readModels);
+                    if (written % (properties.getBatchSize() * 100L) == 0) {
+                        log.info("{} of {} synthetic orders written", written, properties.getOrders());
+                    }
+                }
+            }
+        }
+        written += save(pending, readModels);
+
+        persistAll(readModels.customers.values().stream().map(CustomerSummaryBuilder::build).toList());
+        persistAll(readModels.days.values());
+        persistAll(readModels.products.values());
+        persistAll(readModels.tiers.values());
+        log.info("Generated {} orders with {} items in {}s", written, readModels.items,
+                Duration.ofNanos(System.nanoTime() - started).toSeconds());
+    }
+
+    private Order randomOrder(long customerId, LocalDateTime orderDate, LocalDateTime now,
+                              ZipfSampler productSampler, Random random) {
+        Order order = Order.builder()
+                .orderNumber(orderNumberGenerator.nextOrderNumber())
+                .customerId(customerId)
+                .customerTier(tierOf(customerId))
+                .orderDate(orderDate)
+                .status(randomStatus(orderDate, now, random))
+                .orderItems(new ArrayList<>())
+                .build();
+        // Mostly small baskets, occasionally a large one
+        int lines = 1 + (int) (properties.getMaxLinesPerOrder() * Math.pow(random.nextDouble(), 2.5));
+        lines = Math.min(lines, Math.min(properties.getMaxLinesPerOrder(), properties.getProducts()));
+        Set<Long> productIds = new HashSet<>();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        while (productIds.size() < lines) {
+            long productId = productSampler.sample(random);
+            if (!productIds.add(productId)) {
+                continue;
+            }
+            int quantity = random.nextDouble() < 0.05 ? 10 + random.nextInt(41) : 1 + random.nextInt(5);
+            OrderItem item = OrderItem.builder()
+                    .productId(productId)
+                    .quantity(quantity)
+                    .unitPrice(listPrice(productId))
+                    .order(order)
+                    .build();
+            order.getOrderItems().add(item);
+            totalAmount = totalAmount.add(item.getUnitPrice().multiply(BigDecimal.valueOf(quantity)));
+        }
+        order.setTotalAmount(totalAmount);
+        return order;
+    }
+
+    // Older orders have gone through the whole lifecycle; the most recent ones are still in progress
+    private OrderStatus randomStatus(LocalDateTime orderDate, LocalDateTime now, Random random) {
+        if (random.nextDouble() < properties.getCancelledShare()) {
+            return OrderStatus.CANCELLED;
+        }
+        long ageHours = Duration.between(orderDate, now).toHours();
+        if (ageHours < 6) {
+            return OrderStatus.NEW;
+        }
+        if (ageHours < 18) {
+            return OrderStatus.PROCESSING;
+        }
+        return ageHours < 48 ? OrderStatus.DELIVERING : OrderStatus.COMPLETED;
+    }
+
+    // One transaction per batch keeps the persistence context small; ids are assigned on save
+    private int save(List<Order> orders, ReadModels readModels) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> orderRepository.saveAll(orders));
+        orders.forEach(readModels::add);
+        int saved = orders.size();
+        orders.clear();
+        return saved;
+    }
+
+    // persist rather than saveAll: saveAll merges entities with assigned ids, a select per row
+    private void persistAll(Collection<?> rows) {
+        List<?> remaining = List.copyOf(rows);
+        for (int from = 0; from < remaining.size(); from += properties.getBatchSize()) {
+            List<?> batch = remaining.subList(from, Math.min(from + properties.getBatchSize(), remaining.size()));
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(entityManager::persist));
+        }
+    }
+
+    // Mirrors what the summary and rollup listeners would have recorded for the same orders
+    private static final class ReadModels {
+
+        private final Map<Long, CustomerSummaryBuilder> customers = new HashMap<>();
+        private final Map<LocalDate, DailySalesRollup> days = new HashMap<>();
+        private final Map<Long, ProductSalesRollup> products = new HashMap<>();
+        private final Map<String, CustomerTierSalesRollup> tiers = new HashMap<>();
+        private long items;
+
+        void add(Order order) {
+            items += order.getOrderItems().size();
+            boolean counted = order.getStatus().isCounted();
+            customers.computeIfAbsent(order.getCustomerId(), CustomerSummaryBuilder::new).add(order, counted);
+            if (!counted) {
+                return;
+            }
+            long units = order.getOrderItems().stream().mapToLong(OrderItem::getQuantity).sum();
+            DailySalesRollup day = days.computeIfAbsent(order.getOrderDate().toLocalDate(), salesDate ->
+                    DailySalesRollup.builder().salesDate(salesDate).revenue(BigDecimal.ZERO).build());
+            day.setOrderCount(day.getOrderCount() + 1);
+            day.setUnitsSold(day.getUnitsSold() + units);
+            day.setRevenue(day.getRevenue().add(order.getTotalAmount()));
+            for (OrderItem item : order.getOrderItems()) {
+                ProductSalesRollup product = products.computeIfAbsent(item.getProductId(), productId ->
+                        ProductSalesRollup.builder().productId(productId).revenue(BigDecimal.ZERO).build());
+                product.setUnitsSold(product.getUnitsSold() + item.getQuantity());
+                product.setRevenue(product.getRevenue()
+                        .add(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()))));
+            }
+            CustomerTierSalesRollup tier = tiers.computeIfAbsent(order.getCustomerTier(), customerTier ->
+                    CustomerTierSalesRollup.builder().customerTier(customerTier).revenue(BigDecimal.ZERO).build());
+            tier.setOrderCount(tier.getOrderCount() + 1);
+            tier.setRevenue(tier.getRevenue().add(order.getTotalAmount()));
+        }
+    }
+
+    private static final class CustomerSummaryBuilder {
+
+        private final long customerId;
+        private final ArrayDeque<Long> recentOrderIds = new ArrayDeque<>();
+        private long orderCount;
+        private BigDecimal lifetimeSpend = BigDecimal.ZERO;
+        private LocalDateTime lastOrderDate;
+
+        CustomerSummaryBuilder(long customerId) {
+            this.customerId = customerId;
+        }
+
+        // Orders arrive in chronological order, so the latest one is always the newest
+        void add(Order order, boolean counted) {
+            if (counted) {
+                orderCount++;
+                lifetimeSpend = lifetimeSpend.add(order.getTotalAmount());
+            }
+            lastOrderDate = order.getOrderDate();
+            recentOrderIds.addFirst(order.getId());
+            if (recentOrderIds.size() > CustomerOrderSummaryService.RECENT_ORDERS) {
+                recentOrderIds.removeLast();
+            }
+        }
+
+        CustomerOrderSummary build() {
+            return CustomerOrderSummary.builder()
+                    .customerId(customerId)
+                    .orderCount(orderCount)
+                    .lifetimeSpend(lifetimeSpend)
+                    .lastOrderDate(lastOrderDate)
+                    .recentOrderIds(recentOrderIds.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                    .build();
+        }
+    }
+}
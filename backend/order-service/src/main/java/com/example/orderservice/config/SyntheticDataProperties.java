@@ -0,0 +1,25 @@
+package com.example.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Sizes and shape of the data seeded by the "synthetic" profile. Products and customers are only
+// referenced by id here; the other services generate the same ids with the same counts.
+@Data
+@ConfigurationProperties(prefix = "synthetic")
+public class SyntheticDataProperties {
+
+    private long seed = 42;
+    private int products = 10_000;
+    private int customers = 100_000;
+    private long orders = 1_000_000;
+    // Days of order history, ending yesterday
+    private int historyDays = 730;
+    private int maxLinesPerOrder = 8;
+    // Zipf exponents; higher means a few products (or customers) account for more of the orders
+    private double productSkew = 1.1;
+    private double customerSkew = 0.6;
+    private double cancelledShare = 0.05;
+    // Orders per transaction; inserts within it are batched by hibernate.jdbc.batch_size
+    private int batchSize = 1000;
+}
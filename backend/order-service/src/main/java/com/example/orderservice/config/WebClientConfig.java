@@ -0,0 +1,56 @@
+package com.example.orderservice.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@EnableConfigurationProperties(DownstreamClientProperties.class)
+public class WebClientConfig {
+
+    @Bean
+    public WebClient inventoryWebClient(WebClient.Builder webClientBuilder, DownstreamClientProperties properties) {
+        return buildClient(webClientBuilder, "inventory", properties.getInventory());
+    }
+
+    @Bean
+    public WebClient pricingWebClient(WebClient.Builder webClientBuilder, DownstreamClientProperties properties) {
+        return buildClient(webClientBuilder, "pricing", properties.getPricing());
+    }
+
+    @Bean
+    public WebClient customerWebClient(WebClient.Builder webClientBuilder, DownstreamClientProperties properties) {
+        return buildClient(webClientBuilder, "customer", properties.getCustomer());
+    }
+
+    private WebClient buildClient(WebClient.Builder webClientBuilder, String name, DownstreamClientProperties.Client client) {
+        // One pool per downstream service so a slow dependency cannot starve the others of connections;
+        // metrics(true) publishes reactor.netty.connection.provider.* gauges through actuator
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireMaxCount(client.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(client.getPendingAcquireTimeout())
+                .maxIdleTime(client.getMaxIdleTime())
+                .maxLifeTime(client.getMaxLifeTime())
+                .evictInBackground(client.getEvictionInterval())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.getConnectTimeout().toMillis())
+                .responseTimeout(client.getResponseTimeout());
+
+        // clone() keeps the load-balancer filter registered on the shared builder
+        return webClientBuilder.clone()
+                .baseUrl(client.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
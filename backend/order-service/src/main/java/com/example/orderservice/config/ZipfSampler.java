@@ -0,0 +1,31 @@
+package com.example.orderservice.config;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Draws ranks 1..size with probability proportional to 1 / rank^exponent
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        cumulative[size - 1] = 1.0;
+    }
+
+    int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index + 1 : -index - 1) + 1;
+    }
+}
@@ -1,17 +1,39 @@
 package com.example.orderservice.controller;
 
+import com.example.orderservice.dto.BulkStatusUpdateRequest;
+import com.example.orderservice.dto.BulkStatusUpdateResponse;
+import com.example.orderservice.dto.CustomerOrderSummaryResponse;
+import com.example.orderservice.dto.OrderFilter;
+import com.example.orderservice.dto.OrderImportReport;
+import com.example.orderservice.dto.OrderPageResponse;
 import com.example.orderservice.dto.OrderRequest;
 import com.example.orderservice.dto.OrderResponse;
+import com.example.orderservice.dto.OrderSliceResponse;
+import com.example.orderservice.dto.OrderStatusResponse;
+import com.example.orderservice.dto.QuoteRequest;
+import com.example.orderservice.dto.QuoteResponse;
 import com.example.orderservice.model.OrderStatus;
+import com.example.orderservice.service.CustomerOrderSummaryService;
+import com.example.orderservice.service.IdempotencyStore;
+import com.example.orderservice.service.OrderExportService;
+import com.example.orderservice.service.OrderImportService;
 import com.example.orderservice.service.OrderService;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import com.example.orderservice.service.QuoteService;
+import com.example.orderservice.service.ServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // Import Slf4j
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/order")
@@ -19,20 +41,97 @@ import java.util.List;
 @Slf4j // Add Slf4j annotation
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderImportService orderImportService;
+    private final IdempotencyStore idempotencyStore;
+    private final CustomerOrderSummaryService customerOrderSummaryService;
+    private final QuoteService quoteService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    @CircuitBreaker(name = "inventory", fallbackMethod = "fallbackMethod")
-    public ResponseEntity<String> placeOrder(@RequestBody OrderRequest orderRequest) {
-        String orderNumber = orderService.createOrder(orderRequest);
-        return new ResponseEntity<>(orderNumber, HttpStatus.CREATED);
+    public ResponseEntity<String> placeOrder(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                             @RequestBody OrderRequest orderRequest) {
+        return idempotent("sync:", idempotencyKey, orderRequest, () -> {
+            String orderNumber = orderService.createOrder(orderRequest);
+            return new ResponseEntity<>(orderNumber, HttpStatus.CREATED);
+        });
+    }
+
+    @PostMapping("/async")
+    public ResponseEntity<String> placeOrderAsync(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                  @RequestBody OrderRequest orderRequest) {
+        try {
+            return idempotent("async:", idempotencyKey, orderRequest, () -> {
+                String orderNumber = orderService.acceptOrder(orderRequest);
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/order/number/" + orderNumber + "/status"))
+                        .body(orderNumber);
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Order pipeline full, rejecting order for customer {}", orderRequest.getCustomerId());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body("Too many orders in progress, please retry shortly.");
+        }
+    }
+
+    // Prices the basket from cached snapshots; nothing is reserved and no voucher is used up
+    @PostMapping("/quote")
+    @ResponseStatus(HttpStatus.OK)
+    public QuoteResponse quote(@RequestBody QuoteRequest quoteRequest) {
+        return quoteService.quote(quoteRequest);
+    }
+
+    // The body is read as a raw stream rather than a multipart upload so large files are never buffered
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @ResponseStatus(HttpStatus.OK)
+    public OrderImportReport importOrders(InputStream csv) throws IOException {
+        return orderImportService.importCsv(csv);
+    }
+
+    @GetMapping("/number/{orderNumber}/status")
+    @ResponseStatus(HttpStatus.OK)
+    public OrderStatusResponse getOrderStatus(@PathVariable String orderNumber) {
+        return orderService.getOrderStatus(orderNumber);
     }
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<OrderResponse> getAllOrders() {
-        return orderService.getAllOrders();
+    public OrderPageResponse getOrders(OrderFilter filter,
+                                       @RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(defaultValue = "20") int size) {
+        return orderService.getOrders(filter, page, size);
+    }
+
+    @GetMapping("/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public OrderSliceResponse scrollOrders(OrderFilter filter,
+                                           @RequestParam(required = false) Long afterId,
+                                           @RequestParam(defaultValue = "20") int size) {
+        return orderService.scrollOrders(filter, afterId, size);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(OrderFilter filter,
+                                                              @RequestParam(defaultValue = "ndjson") String format) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("text/csv"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.csv\"")
+                    .body(outputStream -> orderExportService.exportCsv(filter, outputStream));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(outputStream -> orderExportService.exportNdjson(filter, outputStream));
+    }
+
+    @GetMapping("/customer/{customerId}/summary")
+    @ResponseStatus(HttpStatus.OK)
+    public CustomerOrderSummaryResponse getCustomerSummary(@PathVariable Long customerId) {
+        return customerOrderSummaryService.getSummary(customerId);
     }
 
     @GetMapping("/{id}")
@@ -47,8 +146,38 @@ public class OrderController {
         orderService.updateOrderStatus(id, status);
     }
 
-    public ResponseEntity<String> fallbackMethod(OrderRequest orderRequest, RuntimeException runtimeException) {
-        log.error("Fallback method for placeOrder triggered: {}", runtimeException.getMessage()); // Log the exception
-        return new ResponseEntity<>("Oops! Something went wrong, please order after some time!", HttpStatus.SERVICE_UNAVAILABLE);
+    @PutMapping("/status/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    public BulkStatusUpdateResponse updateOrderStatuses(@RequestBody BulkStatusUpdateRequest request) {
+        return orderService.updateOrderStatuses(request);
+    }
+
+    // Retries carrying the same Idempotency-Key share one execution and get its result replayed
+    private ResponseEntity<String> idempotent(String scope, String idempotencyKey, OrderRequest orderRequest,
+                                              Supplier<ResponseEntity<String>> placement) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return placement.get();
+        }
+        try {
+            return idempotencyStore.execute(scope + idempotencyKey, orderRequest, placement);
+        } catch (IdempotencyStore.KeyReusedException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.UNPROCESSABLE_CONTENT);
+        } catch (IdempotencyStore.InProgressException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    // Rejected orders (out of stock, unpriced products, invalid transitions) are the caller's to fix
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleRejected(IllegalArgumentException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<String> handleServiceUnavailable(ServiceUnavailableException e) {
+        log.error("Order request failed on a downstream service: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body("Oops! Something went wrong, please order after some time!");
     }
 }
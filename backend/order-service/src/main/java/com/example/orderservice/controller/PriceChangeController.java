@@ -0,0 +1,30 @@
+package com.example.orderservice.controller;
+
+import com.example.orderservice.dto.PriceChangeNotification;
+import com.example.orderservice.service.PriceCache;
+import com.example.orderservice.service.VoucherCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+// Called by pricing-service on each instance after a price, promotion or voucher change is committed.
+// The gateway refuses /internal/** paths, so only other services can reach it.
+@RestController
+@RequestMapping("/internal/price-changes")
+@RequiredArgsConstructor
+public class PriceChangeController {
+
+    private final PriceCache priceCache;
+    private final VoucherCache voucherCache;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void priceChanged(@RequestBody PriceChangeNotification notification) {
+        priceCache.onChange(notification);
+        voucherCache.onChange(notification);
+    }
+}
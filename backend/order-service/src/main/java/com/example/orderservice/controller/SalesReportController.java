@@ -0,0 +1,48 @@
+package com.example.orderservice.controller;
+
+import com.example.orderservice.dto.CustomerTierSalesResponse;
+import com.example.orderservice.dto.DailySalesResponse;
+import com.example.orderservice.dto.ProductSalesResponse;
+import com.example.orderservice.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/order/reports")
+@RequiredArgsConstructor
+public class SalesReportController {
+
+    private final SalesRollupService salesRollupService;
+
+    @GetMapping("/daily")
+    @ResponseStatus(HttpStatus.OK)
+    public List<DailySalesResponse> getDailySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate until = to != null ? to : LocalDate.now();
+        return salesRollupService.getDailySales(from != null ? from : until.minusDays(30), until);
+    }
+
+    @GetMapping("/products")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ProductSalesResponse> getTopProducts(@RequestParam(defaultValue = "20") int limit) {
+        return salesRollupService.getTopProducts(limit);
+    }
+
+    @GetMapping("/products/{productId}")
+    @ResponseStatus(HttpStatus.OK)
+    public ProductSalesResponse getProductSales(@PathVariable Long productId) {
+        return salesRollupService.getProductSales(productId);
+    }
+
+    @GetMapping("/tiers")
+    @ResponseStatus(HttpStatus.OK)
+    public List<CustomerTierSalesResponse> getTierSales() {
+        return salesRollupService.getTierSales();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class BulkStatusUpdateRequest {
+    private List<Long> orderIds;
+    private OrderStatus status; // target status for every order in the request
+}
@@ -0,0 +1,19 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class BulkStatusUpdateResponse {
+    private OrderStatus status;
+    private List<Long> updated;
+    private List<RejectedStatusUpdate> rejected;
+}
@@ -0,0 +1,16 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// The part of customer-service's CustomerResponse that order-service reads
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class CustomerResponse {
+    private Long id;
+    private String membershipLevel;
+}
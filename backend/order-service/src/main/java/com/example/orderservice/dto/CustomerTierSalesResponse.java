@@ -0,0 +1,18 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class CustomerTierSalesResponse {
+    private String customerTier;
+    private long orderCount;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,20 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class DailySalesResponse {
+    private LocalDate date;
+    private long orderCount;
+    private long unitsSold;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,18 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class OrderImportReport {
+    private int ordersPlaced;
+    private int ordersRejected;
+    private List<OrderImportResult> results;
+}
@@ -0,0 +1,19 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class OrderImportResult {
+    private Integer firstLine; // line of the upload the order starts on
+    private Long customerId;
+    private Integer lineCount;
+    private boolean placed;
+    private String orderNumber; // null when the order was rejected
+    private String error; // null when the order was placed
+}
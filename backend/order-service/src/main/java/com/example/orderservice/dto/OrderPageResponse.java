@@ -0,0 +1,20 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class OrderPageResponse {
+    private List<OrderResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+}
@@ -0,0 +1,18 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class OrderSliceResponse {
+    private List<OrderResponse> content;
+    private Long nextCursor; // pass as afterId to fetch the next slice; null on the last one
+    private boolean hasNext;
+}
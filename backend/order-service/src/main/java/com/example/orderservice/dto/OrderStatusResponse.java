@@ -0,0 +1,20 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class OrderStatusResponse {
+    private String orderNumber;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private boolean pending; // accepted asynchronously and not yet reserved and priced
+}
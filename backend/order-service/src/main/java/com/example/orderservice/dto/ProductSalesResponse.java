@@ -6,16 +6,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Data
-public class PriceResponse {
-    private Long id;
+public class ProductSalesResponse {
     private Long productId;
-    private BigDecimal currentPrice;
-    private LocalDateTime startDate;
-    private LocalDateTime endDate;
+    private long unitsSold;
+    private BigDecimal revenue;
 }
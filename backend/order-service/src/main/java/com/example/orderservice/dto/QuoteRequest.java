@@ -0,0 +1,17 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class QuoteRequest {
+    private List<OrderItemRequest> orderItems;
+    private String voucherCode; // Optional
+}
@@ -0,0 +1,22 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class QuoteResponse {
+    private List<QuoteLine> lines;
+    private BigDecimal subtotal;
+    private String voucherCode;
+    private boolean voucherApplied;
+    private BigDecimal total;
+    private boolean inStock; // Every line can currently be fulfilled
+}
@@ -0,0 +1,17 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class RejectedStatusUpdate {
+    private Long orderId;
+    private OrderStatus currentStatus; // null if the order does not exist
+    private String reason;
+}
@@ -0,0 +1,7 @@
+package com.example.orderservice.dto;
+
+public enum ReservationStatus {
+    RESERVED,
+    INSUFFICIENT,
+    MISSING
+}
@@ -0,0 +1,17 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StockReservationLine {
+    private Long productId;
+    private Integer requested;
+    private Integer available; // null when the product has no inventory record
+    private ReservationStatus status;
+}
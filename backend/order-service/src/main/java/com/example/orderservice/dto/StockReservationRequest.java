@@ -0,0 +1,18 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StockReservationRequest {
+    // Inventory keeps one reservation per order number, so repeated reservations and releases are harmless
+    private String orderNumber;
+    private List<StockReservationItem> items;
+}
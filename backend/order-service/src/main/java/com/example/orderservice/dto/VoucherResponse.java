@@ -0,0 +1,25 @@
+package com.example.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class VoucherResponse {
+    private Long id;
+    private String code;
+    private String discountType;
+    private Double value;
+    private Double minOrderAmount;
+    private Integer usageLimit;
+    private Integer usedCount;
+    private LocalDateTime validFrom;
+    private LocalDateTime validUntil;
+    private Boolean active;
+}
@@ -0,0 +1,36 @@
+package com.example.orderservice.event;
+
+import com.example.orderservice.model.Order;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published inside the transaction that stores a reserved and priced order.
+ */
+@Value
+public class OrderPlacedEvent {
+    Long orderId;
+    Long customerId;
+    String customerTier;
+    BigDecimal totalAmount;
+    LocalDateTime orderDate;
+    List<Line> lines;
+
+    public static OrderPlacedEvent of(Order order) {
+        List<Line> lines = order.getOrderItems().stream()
+                .map(item -> new Line(item.getProductId(), item.getQuantity(), item.getUnitPrice()))
+                .toList();
+        return new OrderPlacedEvent(order.getId(), order.getCustomerId(), order.getCustomerTier(),
+                order.getTotalAmount(), order.getOrderDate(), lines);
+    }
+
+    @Value
+    public static class Line {
+        Long productId;
+        Integer quantity;
+        BigDecimal unitPrice;
+    }
+}
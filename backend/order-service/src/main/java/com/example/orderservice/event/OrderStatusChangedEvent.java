@@ -0,0 +1,35 @@
+package com.example.orderservice.event;
+
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderStatus;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published inside the transaction that changes an order's status. {@code totalAmount} is null for an
+ * order that was accepted but never priced. The order's placement date, tier and lines travel with the
+ * event, so listeners do not reload the order for every status change of a bulk update.
+ */
+@Value
+public class OrderStatusChangedEvent {
+    Long orderId;
+    Long customerId;
+    String customerTier;
+    BigDecimal totalAmount;
+    LocalDateTime orderDate;
+    List<OrderPlacedEvent.Line> lines;
+    OrderStatus previousStatus;
+    OrderStatus newStatus;
+
+    // Reads the order's items, so load them together beforehand when publishing for many orders
+    public static OrderStatusChangedEvent of(Order order, OrderStatus previousStatus, OrderStatus newStatus) {
+        List<OrderPlacedEvent.Line> lines = order.getOrderItems().stream()
+                .map(item -> new OrderPlacedEvent.Line(item.getProductId(), item.getQuantity(), item.getUnitPrice()))
+                .toList();
+        return new OrderStatusChangedEvent(order.getId(), order.getCustomerId(), order.getCustomerTier(),
+                order.getTotalAmount(), order.getOrderDate(), lines, previousStatus, newStatus);
+    }
+}
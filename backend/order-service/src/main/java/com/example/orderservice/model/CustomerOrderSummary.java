@@ -0,0 +1,29 @@
+package com.example.orderservice.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "t_customer_order_summaries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerOrderSummary {
+    @Id
+    private Long customerId;
+    // Count and spend cover placed orders that are not cancelled
+    private long orderCount;
+    private BigDecimal lifetimeSpend;
+    private LocalDateTime lastOrderDate;
+    // Ids of the most recently placed orders, newest first, comma separated
+    private String recentOrderIds;
+}
@@ -0,0 +1,26 @@
+package com.example.orderservice.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "t_daily_sales_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailySalesRollup {
+    @Id
+    private LocalDate salesDate; // day the orders were placed
+    private long orderCount;
+    private long unitsSold;
+    private BigDecimal revenue;
+}
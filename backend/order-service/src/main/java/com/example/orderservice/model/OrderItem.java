@@ -16,7 +16,8 @@ import java.math.BigDecimal;
 @Builder
 public class OrderItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "t_order_items_seq", allocationSize = 50)
     private Long id;
     private Long productId;
     private Integer quantity;
@@ -1,9 +1,28 @@
 package com.example.orderservice.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     NEW,
     PROCESSING,
     DELIVERING,
     COMPLETED,
-    CANCELLED
+    CANCELLED;
+
+    // Cancelled orders are left out of the counts, spend and revenue kept by the read models
+    public boolean isCounted() {
+        return this != CANCELLED;
+    }
+
+    // Statuses an order may be moved to this status from by a bulk transition
+    public Set<OrderStatus> allowedPreviousStatuses() {
+        return switch (this) {
+            case NEW -> EnumSet.noneOf(OrderStatus.class);
+            case PROCESSING -> EnumSet.of(NEW);
+            case DELIVERING -> EnumSet.of(PROCESSING);
+            case COMPLETED -> EnumSet.of(DELIVERING);
+            case CANCELLED -> EnumSet.of(NEW, PROCESSING);
+        };
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.orderservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "t_outbox_events", indexes = {
+        @Index(name = "idx_outbox_due", columnList = "status, availableAt"),
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregateId")})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType type;
+    // Order number the event compensates for
+    private String aggregateId;
+    @Lob
+    private String payload;
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    // The relay ignores the event until this time
+    private LocalDateTime availableAt;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,5 @@
+package com.example.orderservice.model;
+
+public enum OutboxEventType {
+    STOCK_RELEASE
+}
@@ -0,0 +1,6 @@
+package com.example.orderservice.model;
+
+public enum OutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,24 @@
+package com.example.orderservice.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "t_product_sales_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSalesRollup {
+    @Id
+    private Long productId;
+    private long unitsSold;
+    private BigDecimal revenue; // sum of quantity x unitPrice
+}
@@ -0,0 +1,18 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.model.CustomerOrderSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CustomerOrderSummaryRepository extends JpaRepository<CustomerOrderSummary, Long> {
+
+    // Serialises concurrent updates of one customer's summary until the order transaction commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from CustomerOrderSummary s where s.customerId = :customerId")
+    Optional<CustomerOrderSummary> findForUpdate(@Param("customerId") Long customerId);
+}
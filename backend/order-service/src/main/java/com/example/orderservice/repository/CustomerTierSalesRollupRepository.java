@@ -0,0 +1,7 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.model.CustomerTierSalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CustomerTierSalesRollupRepository extends JpaRepository<CustomerTierSalesRollup, String> {
+}
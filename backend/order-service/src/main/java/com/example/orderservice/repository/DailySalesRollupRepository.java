@@ -0,0 +1,12 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.model.DailySalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailySalesRollupRepository extends JpaRepository<DailySalesRollup, LocalDate> {
+
+    List<DailySalesRollup> findBySalesDateBetweenOrderBySalesDate(LocalDate from, LocalDate to);
+}
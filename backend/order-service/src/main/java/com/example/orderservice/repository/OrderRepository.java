@@ -1,10 +1,95 @@
 package com.example.orderservice.repository;
 
 import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByOrderNumber(String orderNumber);
+
+    // Status changes read the current status under a row lock so each transition is published exactly once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id = :id")
+    Optional<Order> findForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id in :ids")
+    List<Order> findAllForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Accepted orders that no worker has priced yet, oldest first
+    @Query("select o.id from Order o where o.status = :status and o.totalAmount is null "
+            + "and o.orderDate < :acceptedBefore order by o.id")
+    List<Long> findUnpricedIds(@Param("status") OrderStatus status,
+                               @Param("acceptedBefore") LocalDateTime acceptedBefore,
+                               Pageable pageable);
+
+    // Set-based transition; the status guard keeps it safe even without the rows locked
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :status where o.id in :ids and o.status in :allowed")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("allowed") Collection<OrderStatus> allowed,
+                     @Param("status") OrderStatus status);
+
+    // Pages over ids only; items are loaded afterwards with findAllWithItemsByIdIn so that
+    // Hibernate never has to paginate a fetch-joined collection in memory
+    @Query(value = "select o.id from Order o "
+            + "where (:customerId is null or o.customerId = :customerId) "
+            + "and (:status is null or o.status = :status) "
+            + "and (:from is null or o.orderDate >= :from) "
+            + "and (:to is null or o.orderDate < :to)",
+            countQuery = "select count(o) from Order o "
+                    + "where (:customerId is null or o.customerId = :customerId) "
+                    + "and (:status is null or o.status = :status) "
+                    + "and (:from is null or o.orderDate >= :from) "
+                    + "and (:to is null or o.orderDate < :to)")
+    Page<Long> findIds(@Param("customerId") Long customerId,
+                       @Param("status") OrderStatus status,
+                       @Param("from") LocalDateTime from,
+                       @Param("to") LocalDateTime to,
+                       Pageable pageable);
+
+    // Keyset variant: newest first, continuing below the last id of the previous slice
+    @Query("select o.id from Order o "
+            + "where (:afterId is null or o.id < :afterId) "
+            + "and (:customerId is null or o.customerId = :customerId) "
+            + "and (:status is null or o.status = :status) "
+            + "and (:from is null or o.orderDate >= :from) "
+            + "and (:to is null or o.orderDate < :to) "
+            + "order by o.id desc")
+    List<Long> findIdsBefore(@Param("afterId") Long afterId,
+                             @Param("customerId") Long customerId,
+                             @Param("status") OrderStatus status,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to,
+                             Pageable pageable);
+
+    // Forward keyset walk in insertion order, used by the streaming export
+    @Query("select o.id from Order o "
+            + "where (:afterId is null or o.id > :afterId) "
+            + "and (:customerId is null or o.customerId = :customerId) "
+            + "and (:status is null or o.status = :status) "
+            + "and (:from is null or o.orderDate >= :from) "
+            + "and (:to is null or o.orderDate < :to) "
+            + "order by o.id asc")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId,
+                            @Param("customerId") Long customerId,
+                            @Param("status") OrderStatus status,
+                            @Param("from") LocalDateTime from,
+                            @Param("to") LocalDateTime to,
+                            Pageable pageable);
+
+    @Query("select distinct o from Order o left join fetch o.orderItems where o.id in :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,31 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.model.OutboxEvent;
+import com.example.orderservice.model.OutboxEventType;
+import com.example.orderservice.model.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("select e from OutboxEvent e where e.status = :status and e.availableAt <= :now order by e.availableAt, e.id")
+    List<OutboxEvent> findDue(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.availableAt = :now, e.version = e.version + 1 "
+            + "where e.type = :type and e.aggregateId in :aggregateIds and e.availableAt > :now")
+    int makeDue(@Param("type") OutboxEventType type, @Param("aggregateIds") Collection<String> aggregateIds,
+                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.type = :type and e.aggregateId in :aggregateIds")
+    int deleteByTypeAndAggregateIds(@Param("type") OutboxEventType type,
+                                    @Param("aggregateIds") Collection<String> aggregateIds);
+}
@@ -0,0 +1,12 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.model.ProductSalesRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ProductSalesRollupRepository extends JpaRepository<ProductSalesRollup, Long> {
+
+    List<ProductSalesRollup> findAllByOrderByRevenueDesc(Pageable pageable);
+}
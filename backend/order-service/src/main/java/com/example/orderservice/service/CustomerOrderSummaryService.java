@@ -0,0 +1,106 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.CustomerOrderSummaryResponse;
+import com.example.orderservice.event.OrderPlacedEvent;
+import com.example.orderservice.event.OrderStatusChangedEvent;
+import com.example.orderservice.model.CustomerOrderSummary;
+import com.example.orderservice.repository.CustomerOrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains one summary row per customer from order events, in the same transaction as the order
+ * change, so purchase history is a primary-key lookup instead of a scan of {@code t_orders}.
+ */
+@Service
+@RequiredArgsConstructor
+public class CustomerOrderSummaryService {
+
+    public static final int RECENT_ORDERS = 10;
+
+    private static final String CREATE_SUMMARY = """
+            MERGE INTO t_customer_order_summaries s
+            USING (VALUES (CAST(? AS BIGINT))) AS c (customer_id)
+            ON s.customer_id = c.customer_id
+            WHEN NOT MATCHED THEN INSERT (customer_id, order_count, lifetime_spend) VALUES (c.customer_id, 0, 0)""";
+
+    private final CustomerOrderSummaryRepository summaryRepository;
+    private final ReadModelRows readModelRows;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        CustomerOrderSummary summary = lockSummary(event.getCustomerId());
+        summary.setOrderCount(summary.getOrderCount() + 1);
+        summary.setLifetimeSpend(summary.getLifetimeSpend().add(event.getTotalAmount()));
+        if (summary.getLastOrderDate() == null || event.getOrderDate().isAfter(summary.getLastOrderDate())) {
+            summary.setLastOrderDate(event.getOrderDate());
+        }
+        List<Long> recent = new ArrayList<>(parseIds(summary.getRecentOrderIds()));
+        recent.addFirst(event.getOrderId());
+        summary.setRecentOrderIds(formatIds(recent));
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        // Orders that were never priced were never counted
+        if (event.getTotalAmount() == null) {
+            return;
+        }
+        int delta = (event.getNewStatus().isCounted() ? 1 : 0) - (event.getPreviousStatus().isCounted() ? 1 : 0);
+        if (delta == 0) {
+            return;
+        }
+        CustomerOrderSummary summary = lockSummary(event.getCustomerId());
+        summary.setOrderCount(summary.getOrderCount() + delta);
+        summary.setLifetimeSpend(summary.getLifetimeSpend().add(event.getTotalAmount().multiply(BigDecimal.valueOf(delta))));
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerOrderSummaryResponse getSummary(Long customerId) {
+        return summaryRepository.findById(customerId)
+                .map(summary -> CustomerOrderSummaryResponse.builder()
+                        .customerId(summary.getCustomerId())
+                        .orderCount(summary.getOrderCount())
+                        .lifetimeSpend(summary.getLifetimeSpend())
+                        .lastOrderDate(summary.getLastOrderDate())
+                        .recentOrderIds(parseIds(summary.getRecentOrderIds()))
+                        .build())
+                // A customer without orders has an empty history rather than a missing one
+                .orElseGet(() -> CustomerOrderSummaryResponse.builder()
+                        .customerId(customerId)
+                        .lifetimeSpend(BigDecimal.ZERO)
+                        .recentOrderIds(List.of())
+                        .build());
+    }
+
+    // The first order of a customer creates the row in the caller's transaction; a concurrent first order
+    // waits for it to commit. The row is then locked until the order transaction commits.
+    private CustomerOrderSummary lockSummary(Long customerId) {
+        return summaryRepository.findForUpdate(customerId).orElseGet(() -> {
+            readModelRows.merge(CREATE_SUMMARY, customerId);
+            return summaryRepository.findForUpdate(customerId).orElseThrow();
+        });
+    }
+
+    private List<Long> parseIds(String ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(",")).map(Long::valueOf).toList();
+    }
+
+    private String formatIds(List<Long> ids) {
+        return ids.stream().limit(RECENT_ORDERS).map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.client.CustomerClient;
+import com.example.orderservice.dto.CustomerResponse;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Looks up a customer's membership level so it can be snapshotted on the order. Levels change rarely,
+ * so they are cached for a while; when customer-service cannot answer in time the order is placed with
+ * {@link #UNKNOWN} instead of failing, and that answer is cached briefly so a degraded customer-service
+ * is not asked again for every order.
+ */
+@Component
+@Slf4j
+public class CustomerTierResolver {
+
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private static final int CONCURRENCY = 8;
+
+    private final AsyncLoadingCache<Long, ResolvedTier> tiers;
+
+    public CustomerTierResolver(CustomerClient customerClient,
+                                @Value("${order.customer-tier.ttl:10m}") Duration ttl,
+                                @Value("${order.customer-tier.failure-ttl:30s}") Duration failureTtl,
+                                @Value("${order.customer-tier.timeout:500ms}") Duration timeout,
+                                @Value("${order.customer-tier.max-entries:10000}") long maxEntries) {
+        this.tiers = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(Expiry.writing((Long customerId, ResolvedTier tier) -> tier.resolved() ? ttl : failureTtl))
+                .buildAsync((customerId, executor) -> customerClient.getCustomer(customerId)
+                        .mapNotNull(CustomerResponse::getMembershipLevel)
+                        .filter(level -> !level.isBlank())
+                        .map(level -> new ResolvedTier(level, true))
+                        .defaultIfEmpty(new ResolvedTier(UNKNOWN, true))
+                        .timeout(timeout)
+                        .onErrorResume(e -> {
+                            log.warn("Could not resolve tier of customer {}: {}", customerId, e.getMessage());
+                            return Mono.just(new ResolvedTier(UNKNOWN, false));
+                        })
+                        .toFuture());
+    }
+
+    // Never fails and never takes longer than the timeout; subscribe early and read the tier when it is needed
+    public Mono<String> resolve(Long customerId) {
+        // Orders can be submitted without a customer; there is nothing to look up for them
+        if (customerId == null) {
+            return Mono.just(UNKNOWN);
+        }
+        return Mono.fromFuture(() -> tiers.get(customerId), true).map(ResolvedTier::level);
+    }
+
+    // Distinct customers are looked up concurrently; missing ids have no entry in the result
+    public Mono<Map<Long, String>> resolveAll(Collection<Long> customerIds) {
+        return Flux.fromStream(customerIds.stream().filter(Objects::nonNull).distinct())
+                .flatMap(customerId -> resolve(customerId).map(tier -> Map.entry(customerId, tier)), CONCURRENCY)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private record ResolvedTier(String level, boolean resolved) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.orderservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * In-memory dedupe store for Idempotency-Key headers. The first request with a key executes;
+ * concurrent duplicates wait for its result and later duplicates get the stored result replayed
+ * until it expires. Failed executions are not stored, so a retry after a failure runs again.
+ * Only a SHA-256 digest of the request and the response are kept, in a cache bounded by the number of
+ * stored results; when it is full the least used results are dropped before their ttl. Requests still in
+ * flight do not count towards the bound and are never dropped, so a duplicate always finds its original.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    // In-flight entries never expire or get evicted; they are removed or completed by the request that created them
+    private static final Duration IN_FLIGHT = Duration.ofNanos(Long.MAX_VALUE);
+
+    // Sorted properties and map keys, so equal requests always serialize, and therefore digest, the same
+    private static final JsonMapper CANONICAL = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private final Cache<String, Entry> entries;
+    private final Duration waitTimeout;
+
+    public IdempotencyStore(MeterRegistry meterRegistry,
+                            @Value("${order.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${order.idempotency.wait-timeout:30s}") Duration waitTimeout,
+                            @Value("${order.idempotency.max-entries:100000}") long maxEntries) {
+        this.waitTimeout = waitTimeout;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxEntries)
+                .weigher((String key, Entry entry) -> entry.result.isDone() ? 1 : 0)
+                .expireAfter(Expiry.writing((String key, Entry entry) -> entry.result.isDone() ? ttl : IN_FLIGHT))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "idempotency");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Object fingerprint, Supplier<T> action) {
+        Entry entry = new Entry(digest(fingerprint), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            if (!existing.fingerprint.equals(entry.fingerprint)) {
+                throw new KeyReusedException(key);
+            }
+            log.info("Replaying result for Idempotency-Key {}", key);
+            return (T) await(key, existing.result);
+        }
+
+        try {
+            T result = action.get();
+            entry.result.complete(result);
+            // Written again so the entry is weighed as a stored result and its expiry starts over at the ttl
+            entries.asMap().replace(key, entry, new Entry(entry.fingerprint, entry.result));
+            return result;
+        } catch (RuntimeException e) {
+            entries.asMap().remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Runs pending evictions now instead of on Caffeine's executor; for tests
+    void cleanUp() {
+        entries.cleanUp();
+    }
+
+    private static String digest(Object fingerprint) {
+        try {
+            byte[] canonical = CANONICAL.writeValueAsBytes(fingerprint);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object await(String key, CompletableFuture<Object> result) {
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new InProgressException(key);
+        } catch (ExecutionException e) {
+            // The original execution failed; surface the same failure to the duplicate
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InProgressException(key);
+        }
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<Object> result) {
+    }
+
+    public static class KeyReusedException extends RuntimeException {
+        public KeyReusedException(String key) {
+            super("Idempotency-Key " + key + " was already used for a different request");
+        }
+    }
+
+    public static class InProgressException extends RuntimeException {
+        public InProgressException(String key) {
+            super("A request with Idempotency-Key " + key + " is still in progress");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderFilter;
+import com.example.orderservice.dto.OrderItemResponse;
+import com.example.orderservice.dto.OrderResponse;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportService {
+
+    private static final String CSV_HEADER = "order_id,order_number,customer_id,order_date,status,total_amount,product_id,quantity,unit_price";
+    private static final String CSV_LINE_BREAK = "\r\n";
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+
+    @Value("${order.export.batch-size:500}")
+    private int batchSize;
+
+    // One JSON document per order, one order per line
+    public void exportNdjson(OrderFilter filter, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long exported = streamOrders(filter, order -> {
+            writer.write(jsonMapper.writeValueAsString(order));
+            writer.write('\n');
+        }, writer);
+        log.info("Exported {} orders as NDJSON", exported);
+    }
+
+    // One row per order item; orders without items get a single row with empty item columns.
+    // Written per RFC 4180: CRLF line breaks, and fields with a comma, quote or line break are quoted.
+    public void exportCsv(OrderFilter filter, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write(CSV_LINE_BREAK);
+        long exported = streamOrders(filter, order -> {
+            if (order.getOrderItems().isEmpty()) {
+                writeCsvRow(writer, order, null);
+            }
+            for (OrderItemResponse item : order.getOrderItems()) {
+                writeCsvRow(writer, order, item);
+            }
+        }, writer);
+        log.info("Exported {} orders as CSV", exported);
+    }
+
+    // Walks the matching orders in keyset batches so only one batch is ever held in memory
+    private long streamOrders(OrderFilter filter, OrderWriter orderWriter, Writer writer) throws IOException {
+        long exported = 0;
+        Long afterId = null;
+        while (true) {
+            List<Long> ids = orderRepository.findIdsAfter(afterId, filter.getCustomerId(), filter.getStatus(),
+                    filter.getFrom(), filter.getTo(), PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Order> batch = orderRepository.findAllWithItemsByIdIn(ids).stream()
+                    .sorted(Comparator.comparing(Order::getId))
+                    .toList();
+            for (Order order : batch) {
+                orderWriter.write(orderMapper.mapToOrderResponse(order));
+            }
+            exported += batch.size();
+            afterId = ids.get(ids.size() - 1);
+
+            writer.flush();
+            // Open-in-view keeps one EntityManager bound to the thread for the whole streamed response, so every
+            // exported order would stay managed until the end without this; otherwise it is a no-op
+            entityManager.clear();
+        }
+        writer.flush();
+        return exported;
+    }
+
+    private void writeCsvRow(Writer writer, OrderResponse order, OrderItemResponse item) throws IOException {
+        writer.write(Stream.of(
+                        order.getId(),
+                        order.getOrderNumber(),
+                        order.getCustomerId(),
+                        order.getOrderDate(),
+                        order.getStatus(),
+                        order.getTotalAmount(),
+                        item != null ? item.getProductId() : null,
+                        item != null ? item.getQuantity() : null,
+                        item != null ? item.getUnitPrice() : null)
+                .map(OrderExportService::csvField)
+                .collect(Collectors.joining(",")));
+        writer.write(CSV_LINE_BREAK);
+    }
+
+    // Missing values are empty fields; quotes inside a quoted field are doubled
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String field = value.toString();
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface OrderWriter {
+        void write(OrderResponse order) throws IOException;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderImportReport;
+import com.example.orderservice.dto.OrderImportResult;
+import com.example.orderservice.dto.OrderItemRequest;
+import com.example.orderservice.dto.OrderRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Imports wholesale orders from CSV with the columns {@code customer_id,product_id,quantity}. The upload
+ * is read line by line; consecutive lines of the same customer form one order and orders are placed
+ * in batches through {@link OrderService#createOrders}, so only one batch is held in memory at a time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderImportService {
+
+    private static final String CSV_HEADER_START = "customer_id";
+
+    private final OrderService orderService;
+
+    @Value("${order.import.batch-size:100}")
+    private int batchSize;
+
+    public OrderImportReport importCsv(InputStream csv) throws IOException {
+        List<OrderImportResult> results = new ArrayList<>();
+        List<PendingOrder> batch = new ArrayList<>();
+        PendingOrder current = null;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && line.startsWith(CSV_HEADER_START))) {
+                continue;
+            }
+            String[] columns = line.split(",", -1);
+            Long customerId = parseLong(columns[0]);
+            if (customerId == null) {
+                results.add(rejected(lineNumber, null, "Line " + lineNumber + ": invalid customer_id"));
+                continue;
+            }
+            if (current == null || !Objects.equals(current.customerId, customerId)) {
+                if (current != null) {
+                    batch.add(current);
+                    if (batch.size() >= batchSize) {
+                        results.addAll(place(batch));
+                        batch.clear();
+                    }
+                }
+                current = new PendingOrder(lineNumber, customerId);
+            }
+            current.addLine(lineNumber, columns);
+        }
+        if (current != null) {
+            batch.add(current);
+        }
+        if (!batch.isEmpty()) {
+            results.addAll(place(batch));
+        }
+
+        int placed = (int) results.stream().filter(OrderImportResult::isPlaced).count();
+        log.info("Imported {} lines: {} orders placed, {} rejected", lineNumber, placed, results.size() - placed);
+        return OrderImportReport.builder()
+                .ordersPlaced(placed)
+                .ordersRejected(results.size() - placed)
+                .results(results)
+                .build();
+    }
+
+    // Orders with a malformed line are rejected here; the rest go to the order service as one batch
+    private List<OrderImportResult> place(List<PendingOrder> batch) {
+        List<PendingOrder> valid = batch.stream().filter(order -> order.error == null).toList();
+        List<OrderImportResult> placed = valid.isEmpty()
+                ? List.of()
+                : orderService.createOrders(valid.stream().map(PendingOrder::toRequest).toList());
+
+        List<OrderImportResult> results = new ArrayList<>(batch.size());
+        int next = 0;
+        for (PendingOrder order : batch) {
+            if (order.error != null) {
+                results.add(rejected(order.firstLine, order.customerId, order.error));
+            } else {
+                OrderImportResult result = placed.get(next++);
+                result.setFirstLine(order.firstLine);
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private OrderImportResult rejected(int lineNumber, Long customerId, String error) {
+        return OrderImportResult.builder()
+                .firstLine(lineNumber)
+                .customerId(customerId)
+                .placed(false)
+                .error(error)
+                .build();
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class PendingOrder {
+        private final int firstLine;
+        private final Long customerId;
+        private final List<OrderItemRequest> items = new ArrayList<>();
+        private String error;
+
+        private PendingOrder(int firstLine, Long customerId) {
+            this.firstLine = firstLine;
+            this.customerId = customerId;
+        }
+
+        private void addLine(int lineNumber, String[] columns) {
+            Long productId = columns.length == 3 ? parseLong(columns[1]) : null;
+            Long quantity = columns.length == 3 ? parseLong(columns[2]) : null;
+            if (productId == null || quantity == null || quantity <= 0 || quantity > Integer.MAX_VALUE) {
+                // Keep the first problem; the whole order is rejected but its remaining lines are still consumed
+                if (error == null) {
+                    error = "Line " + lineNumber + ": expected customer_id,product_id,quantity with a positive quantity";
+                }
+                return;
+            }
+            items.add(OrderItemRequest.builder()
+                    .productId(productId)
+                    .quantity(quantity.intValue())
+                    .build());
+        }
+
+        private OrderRequest toRequest() {
+            return OrderRequest.builder()
+                    .customerId(customerId)
+                    .orderItems(items)
+                    .build();
+        }
+    }
+}
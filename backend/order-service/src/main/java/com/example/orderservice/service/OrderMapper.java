@@ -0,0 +1,38 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderItemResponse;
+import com.example.orderservice.dto.OrderResponse;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderItem;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class OrderMapper {
+
+    public OrderResponse mapToOrderResponse(Order order) {
+        List<OrderItemResponse> orderItemResponses = order.getOrderItems().stream()
+                .map(this::mapToOrderItemResponse)
+                .toList();
+
+        return OrderResponse.builder()
+                .id(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .customerId(order.getCustomerId())
+                .orderDate(order.getOrderDate())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .orderItems(orderItemResponses)
+                .build();
+    }
+
+    public OrderItemResponse mapToOrderItemResponse(OrderItem orderItem) {
+        return OrderItemResponse.builder()
+                .id(orderItem.getId())
+                .productId(orderItem.getProductId())
+                .quantity(orderItem.getQuantity())
+                .unitPrice(orderItem.getUnitPrice())
+                .build();
+    }
+}
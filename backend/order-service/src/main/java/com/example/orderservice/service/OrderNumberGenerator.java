@@ -0,0 +1,9 @@
+package com.example.orderservice.service;
+
+/**
+ * Source of order numbers. Implementations must be thread-safe and never return the same number twice.
+ */
+public interface OrderNumberGenerator {
+
+    String nextOrderNumber();
+}
@@ -0,0 +1,94 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.client.InventoryClient;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OutboxEvent;
+import com.example.orderservice.model.OutboxEventType;
+import com.example.orderservice.model.OutboxStatus;
+import com.example.orderservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Transactional outbox for compensations of remote side effects. A compensation is recorded before the
+ * remote call it compensates, and deleted in the same transaction as the local write that makes it
+ * unnecessary. If the call's outcome is unknown or the write never commits, {@link OutboxRelay} carries
+ * the compensation out, at once when the failure is known here and otherwise after the grace period.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final InventoryClient inventoryClient;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+
+    // Must comfortably exceed the reservation call plus the local write, otherwise the relay could release
+    // stock of an order being saved
+    @Value("${order.outbox.grace:1m}")
+    private Duration grace;
+
+    // Call before reserving, so a reservation that inventory commits is compensated even if its answer is lost
+    public void scheduleStockReleases(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = orders.stream()
+                .map(order -> OutboxEvent.builder()
+                        .type(OutboxEventType.STOCK_RELEASE)
+                        .aggregateId(order.getOrderNumber())
+                        .payload(jsonMapper.writeValueAsString(inventoryClient.toReservationRequest(order)))
+                        .status(OutboxStatus.PENDING)
+                        .createdAt(now)
+                        .availableAt(now.plus(grace))
+                        .build())
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.saveAll(events));
+    }
+
+    // Must be called inside the transaction that makes the compensations unnecessary
+    public void discardStockReleases(List<Order> orders) {
+        outboxEventRepository.deleteByTypeAndAggregateIds(OutboxEventType.STOCK_RELEASE, orderNumbers(orders));
+    }
+
+    // Inventory refused the reservation and rolled it back, so there is nothing to release
+    public void cancelStockReleases(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> discardStockReleases(orders));
+        } catch (RuntimeException e) {
+            // Harmless: inventory ignores a release of stock it never reserved
+            log.warn("Could not discard {} stock releases, they will be relayed after the grace period", orders.size(), e);
+        }
+    }
+
+    // The reservation may have been made but no order will be stored for it, so there is no reason to wait
+    public void expediteStockReleases(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.makeDue(
+                    OutboxEventType.STOCK_RELEASE, orderNumbers(orders), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Could not expedite {} stock releases, they will be relayed after the grace period", orders.size(), e);
+        }
+    }
+
+    private static List<String> orderNumbers(List<Order> orders) {
+        return orders.stream().map(Order::getOrderNumber).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.orderservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded worker pool for asynchronously accepted orders. At most {@code capacity} orders can be
+ * waiting or in progress at once; beyond that new orders are refused up front instead of piling up.
+ */
+@Component
+@Slf4j
+public class OrderProcessingPipeline {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore capacity;
+
+    public OrderProcessingPipeline(@Value("${order.async.workers:4}") int workers,
+                                   @Value("${order.async.capacity:200}") int capacity) {
+        this.capacity = new Semaphore(capacity);
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(workers);
+        this.executor.setMaxPoolSize(workers);
+        this.executor.setThreadNamePrefix("order-worker-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        // Carries the request's trace context to the worker, so pricing and reservation stay in its trace
+        this.executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        this.executor.initialize();
+    }
+
+    /**
+     * Runs {@code admit} on the caller's thread only if a slot is free, then hands its result to
+     * {@code process} on a worker thread.
+     *
+     * @throws RejectedExecutionException if the pipeline is full
+     */
+    public <T> T submit(Supplier<T> admit, Consumer<T> process) {
+        if (!capacity.tryAcquire()) {
+            throw new RejectedExecutionException("Order pipeline is full");
+        }
+        T admitted;
+        try {
+            admitted = admit.get();
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process.accept(admitted);
+                } catch (RuntimeException e) {
+                    log.error("Unexpected error in order pipeline", e);
+                } finally {
+                    capacity.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The admitted order is already stored, so it is answered as accepted and left to the stale order sweep
+            capacity.release();
+            log.error("Order pipeline refused an admitted order, it will be picked up by the sweep", e);
+        }
+        return admitted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,174 +1,494 @@
 package com.example.orderservice.service;
 
-import com.example.orderservice.dto.InventoryResponse;
-import com.example.orderservice.dto.PriceResponse;
+import com.example.orderservice.client.InventoryClient;
+import com.example.orderservice.config.DownstreamMetrics;
+import com.example.orderservice.dto.BulkStatusUpdateRequest;
+import com.example.orderservice.dto.BulkStatusUpdateResponse;
+import com.example.orderservice.dto.OrderFilter;
+import com.example.orderservice.dto.OrderImportResult;
 import com.example.orderservice.dto.OrderItemRequest;
-import com.example.orderservice.dto.OrderItemResponse;
 import com.example.orderservice.dto.OrderRequest;
+import com.example.orderservice.dto.OrderPageResponse;
 import com.example.orderservice.dto.OrderResponse;
-import com.example.orderservice.dto.PriceResponse;
+import com.example.orderservice.dto.OrderSliceResponse;
+import com.example.orderservice.dto.OrderStatusResponse;
+import com.example.orderservice.dto.RejectedStatusUpdate;
+import com.example.orderservice.dto.ReservationStatus;
+import com.example.orderservice.dto.StockReservationResponse;
+import com.example.orderservice.event.OrderPlacedEvent;
+import com.example.orderservice.event.OrderStatusChangedEvent;
 import com.example.orderservice.model.Order;
 import com.example.orderservice.model.OrderItem;
 import com.example.orderservice.model.OrderStatus;
 import com.example.orderservice.repository.OrderItemRepository;
 import com.example.orderservice.repository.OrderRepository;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    // Keeps the IN lists of bulk status updates at a size every database accepts
+    private static final int BULK_STATUS_CHUNK = 500;
+
+    @Value("${order.import.reserve-concurrency:8}")
+    private int reserveConcurrency;
+
+    // Accepted orders still unpriced after this long are no longer queued in the pipeline
+    @Value("${order.async.stale-after:10m}")
+    private Duration staleAfter;
+
+    @Value("${order.async.sweep-batch-size:50}")
+    private int sweepBatchSize;
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final WebClient.Builder webClientBuilder;
+    private final InventoryClient inventoryClient;
+    private final PriceCache priceCache;
+    private final OrderMapper orderMapper;
+    private final OrderProcessingPipeline orderProcessingPipeline;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderOutbox orderOutbox;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CustomerTierResolver customerTierResolver;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional
+    // Remote pricing and reservation run outside any transaction so that no JDBC connection is held
+    // while waiting on other services; only the final write is transactional
     public String createOrder(OrderRequest orderRequest) {
+        Order order = requirePositiveQuantities(newOrder(orderRequest));
+        // Looked up while the basket is priced and reserved, so a slow customer-service adds no latency
+        CompletableFuture<String> customerTier = customerTierResolver.resolve(order.getCustomerId()).toFuture();
+        applyPrices(order, priceAndReserve(order));
+        order.setCustomerTier(customerTier.join());
+
+        // Save the order (this will cascade save the order items due to CascadeType.ALL)
+        persistReserved(order, () -> {
+            orderRepository.save(order);
+            publishPlaced(order);
+        });
+
+        log.info("Order {} created successfully for customer {}", order.getOrderNumber(), order.getCustomerId());
+        return order.getOrderNumber();
+    }
+
+    // Persists the order as NEW and leaves reservation and pricing to the processing pipeline
+    public String acceptOrder(OrderRequest orderRequest) {
+        Order accepted = orderProcessingPipeline.submit(() -> {
+            Order order = requirePositiveQuantities(newOrder(orderRequest));
+            return transactionTemplate.execute(status -> orderRepository.save(order));
+        }, this::processAcceptedOrder);
+        log.info("Order {} accepted for customer {}", accepted.getOrderNumber(), accepted.getCustomerId());
+        return accepted.getOrderNumber();
+    }
+
+    private void processAcceptedOrder(Order order) {
+        CompletableFuture<String> customerTier = customerTierResolver.resolve(order.getCustomerId()).toFuture();
+        Map<Long, BigDecimal> prices;
+        try {
+            prices = priceAndReserve(order);
+        } catch (RuntimeException e) {
+            log.warn("Accepted order {} rejected: {}", order.getOrderNumber(), e.getMessage());
+            cancelIfNew(order);
+            return;
+        }
+        String tier = customerTier.join();
+        try {
+            // Reload so that a status change made while the order was being processed is not overwritten
+            persistReserved(order, () -> {
+                // An order cancelled in the meantime is not placed; failing here releases its stock
+                Order managed = orderRepository.findForUpdate(order.getId())
+                        .filter(current -> current.getStatus() != OrderStatus.CANCELLED)
+                        .orElseThrow(() -> new IllegalStateException("Order " + order.getOrderNumber()
+                                + " was cancelled or no longer exists"));
+                // Already placed by an earlier attempt that the sweep repeated; the reservation was the same one
+                if (managed.getTotalAmount() != null) {
+                    return;
+                }
+                applyPrices(managed, prices);
+                managed.setCustomerTier(tier);
+                publishPlaced(managed);
+            });
+        } catch (RuntimeException e) {
+            log.error("Could not store prices for accepted order {}", order.getOrderNumber(), e);
+            cancelIfNew(order);
+            return;
+        }
+        log.info("Accepted order {} reserved and priced", order.getOrderNumber());
+    }
+
+    // Only cancels an order that is still unpriced; a priced NEW order was placed by another attempt
+    private void cancelIfNew(Order order) {
+        transactionTemplate.executeWithoutResult(status -> orderRepository.findForUpdate(order.getId())
+                .filter(managed -> managed.getStatus() == OrderStatus.NEW && managed.getTotalAmount() == null)
+                .ifPresent(managed -> changeStatus(managed, OrderStatus.CANCELLED)));
+    }
+
+    /**
+     * Accepted orders are queued only in memory, so a restart or a refused hand-off to the pipeline leaves them
+     * NEW and unpriced. Those old enough not to be queued any more are handed to the pipeline again; reserving
+     * is idempotent per order number, so an order that was still in progress is not reserved twice.
+     */
+    @Scheduled(initialDelayString = "${order.async.sweep-interval:1m}",
+            fixedDelayString = "${order.async.sweep-interval:1m}")
+    public void resubmitStaleOrders() {
+        List<Long> staleIds = orderRepository.findUnpricedIds(OrderStatus.NEW, LocalDateTime.now().minus(staleAfter),
+                PageRequest.of(0, sweepBatchSize));
+        if (staleIds.isEmpty()) {
+            return;
+        }
+        int resubmitted = 0;
+        for (Order order : orderRepository.findAllWithItemsByIdIn(staleIds)) {
+            try {
+                orderProcessingPipeline.submit(() -> order, this::processAcceptedOrder);
+                resubmitted++;
+            } catch (RejectedExecutionException e) {
+                // The rest waits for the next sweep rather than crowding out new orders
+                break;
+            }
+        }
+        log.warn("Resubmitted {} of {} stale accepted orders", resubmitted, staleIds.size());
+    }
+
+    // Listeners run synchronously, so read models are updated in the transaction that changes the order
+    private void publishPlaced(Order order) {
+        eventPublisher.publishEvent(OrderPlacedEvent.of(order));
+    }
+
+    private void changeStatus(Order order, OrderStatus newStatus) {
+        OrderStatus previousStatus = order.getStatus();
+        order.setStatus(newStatus);
+        if (previousStatus != newStatus) {
+            eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, previousStatus, newStatus));
+        }
+    }
+
+    /**
+     * Places a batch of orders, each one all-or-nothing on its own: one bulk price lookup for the whole
+     * batch, reservations with bounded concurrency and a single batched write of every reserved order.
+     * Results are returned in the order of the requests; rejected orders carry the reason.
+     */
+    public List<OrderImportResult> createOrders(List<OrderRequest> orderRequests) {
+        List<Order> orders = orderRequests.stream().map(this::newOrder).toList();
+        CompletableFuture<Map<Long, String>> customerTiers = customerTierResolver
+                .resolveAll(orders.stream().map(Order::getCustomerId).toList())
+                .toFuture();
+        String[] errors = new String[orders.size()];
+
+        Map<Long, BigDecimal> prices;
+        try {
+            prices = priceCache.getEffectivePrices(orders.stream()
+                            .flatMap(order -> order.getOrderItems().stream())
+                            .map(OrderItem::getProductId)
+                            .distinct()
+                            .toList())
+                    .onErrorMap(this::translateServiceError)
+                    .block();
+        } catch (RuntimeException e) {
+            Arrays.fill(errors, e.getMessage());
+            return importResults(orders, errors);
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            errors[i] = orders.get(i).getOrderItems().stream()
+                    .filter(item -> prices.get(item.getProductId()) == null)
+                    .findFirst()
+                    .map(item -> "Could not retrieve price for product " + item.getProductId())
+                    .orElse(quantityError(orders.get(i)));
+        }
+
+        List<Integer> priced = IntStream.range(0, orders.size()).filter(i -> errors[i] == null).boxed().toList();
+        orderOutbox.scheduleStockReleases(priced.stream().map(orders::get).toList());
+        boolean[] unanswered = new boolean[orders.size()];
+        Flux.fromIterable(priced)
+                .flatMap(i -> inventoryClient.reserve(orders.get(i))
+                        .doOnNext(response -> {
+                            if (!response.isReserved()) {
+                                errors[i] = reservationErrorMessage(response);
+                            }
+                        })
+                        .onErrorResume(e -> {
+                            errors[i] = translateServiceError(e).getMessage();
+                            unanswered[i] = true;
+                            return Mono.empty();
+                        }), reserveConcurrency)
+                .blockLast();
+        orderOutbox.cancelStockReleases(priced.stream()
+                .filter(i -> errors[i] != null && !unanswered[i])
+                .map(orders::get)
+                .toList());
+        orderOutbox.expediteStockReleases(priced.stream()
+                .filter(i -> unanswered[i])
+                .map(orders::get)
+                .toList());
+
+        List<Order> reserved = IntStream.range(0, orders.size())
+                .filter(i -> errors[i] == null)
+                .mapToObj(orders::get)
+                .toList();
+        if (!reserved.isEmpty()) {
+            Map<Long, String> tiers = customerTiers.join();
+            reserved.forEach(order -> {
+                applyPrices(order, prices);
+                order.setCustomerTier(tiers.getOrDefault(order.getCustomerId(), CustomerTierResolver.UNKNOWN));
+            });
+            try {
+                persistReserved(reserved, () -> {
+                    orderRepository.saveAll(reserved);
+                    reserved.forEach(this::publishPlaced);
+                });
+            } catch (RuntimeException e) {
+                log.error("Could not store a batch of {} reserved orders", reserved.size(), e);
+                IntStream.range(0, orders.size())
+                        .filter(i -> errors[i] == null)
+                        .forEach(i -> errors[i] = "Order could not be stored, its stock will be released");
+            }
+        }
+        return importResults(orders, errors);
+    }
+
+    private List<OrderImportResult> importResults(List<Order> orders, String[] errors) {
+        return IntStream.range(0, orders.size())
+                .mapToObj(i -> OrderImportResult.builder()
+                        .customerId(orders.get(i).getCustomerId())
+                        .lineCount(orders.get(i).getOrderItems().size())
+                        .placed(errors[i] == null)
+                        .orderNumber(errors[i] == null ? orders.get(i).getOrderNumber() : null)
+                        .error(errors[i])
+                        .build())
+                .toList();
+    }
+
+    // Stock is already reserved and its release in the outbox when this runs. The release is discarded in the
+    // same transaction as the write, so the reservation is compensated whenever that write does not commit.
+    private void persistReserved(Order order, Runnable write) {
+        persistReserved(List.of(order), write);
+    }
+
+    private void persistReserved(List<Order> orders, Runnable write) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                write.run();
+                orderOutbox.discardStockReleases(orders);
+            });
+            outcome = "ok";
+        } catch (RuntimeException e) {
+            orderOutbox.expediteStockReleases(orders);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("order.persist")
+                    .description("Transactional write of reserved orders, including read model updates")
+                    .tag("mode", orders.size() == 1 ? "single" : "batch")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public OrderStatusResponse getOrderStatus(String orderNumber) {
+        return orderRepository.findByOrderNumber(orderNumber)
+                .map(order -> OrderStatusResponse.builder()
+                        .orderNumber(order.getOrderNumber())
+                        .status(order.getStatus())
+                        .totalAmount(order.getTotalAmount())
+                        .pending(order.getStatus() == OrderStatus.NEW && order.getTotalAmount() == null)
+                        .build())
+                .orElse(null);
+    }
+
+    private Order newOrder(OrderRequest orderRequest) {
         Order order = new Order();
-        order.setOrderNumber(UUID.randomUUID().toString());
+        order.setOrderNumber(orderNumberGenerator.nextOrderNumber());
         order.setOrderDate(LocalDateTime.now());
         order.setStatus(OrderStatus.NEW);
         order.setCustomerId(orderRequest.getCustomerId());
+        DistributionSummary.builder("order.lines")
+                .description("Lines per order request")
+                .baseUnit("lines")
+                .register(meterRegistry)
+                .record(orderRequest.getOrderItems().size());
 
         List<OrderItem> orderItems = orderRequest.getOrderItems().stream()
                 .map(this::mapToOrderItem)
                 .toList();
 
+        // Set the order reference on all order items BEFORE saving
+        // This is required because OrderItem.order is marked as nullable=false
+        // and the Order entity has cascade=CascadeType.ALL
+        orderItems.forEach(orderItem -> orderItem.setOrder(order));
         order.setOrderItems(orderItems);
+        return order;
+    }
 
-        // Calculate total amount and interact with other services
-        BigDecimal totalAmount = BigDecimal.ZERO;
+    // Price the whole basket first so that stock is never reserved for an order that cannot be priced,
+    // then reserve every line in a single all-or-nothing call. The release is in the outbox before inventory
+    // is called, so stock reserved for an order that is never stored goes back even if the answer is lost.
+    private Map<Long, BigDecimal> priceAndReserve(Order order) {
+        Map<Long, BigDecimal> prices = fetchUnitPrices(order.getOrderItems())
+                .onErrorMap(e -> !(e instanceof IllegalArgumentException), this::translateServiceError)
+                .block();
+        List<Order> orders = List.of(order);
+        orderOutbox.scheduleStockReleases(orders);
+        try {
+            reserveStock(order)
+                    .onErrorMap(e -> !(e instanceof IllegalArgumentException), this::translateServiceError)
+                    .block();
+        } catch (IllegalArgumentException e) {
+            orderOutbox.cancelStockReleases(orders);
+            throw e;
+        } catch (RuntimeException e) {
+            // Timed out or failed: inventory may still have committed the reservation
+            orderOutbox.expediteStockReleases(orders);
+            throw e;
+        }
+        return prices;
+    }
 
+    static void applyPrices(Order order, Map<Long, BigDecimal> prices) {
+        BigDecimal totalAmount = BigDecimal.ZERO;
         for (OrderItem item : order.getOrderItems()) {
-            try {
-                // Call Inventory Service to check stock and reserve
-                Boolean isInStock = webClientBuilder.build().get()
-                        .uri("http://inventory-service/api/inventory/inStock/" + item.getProductId())
-                        .retrieve()
-                        .bodyToMono(Boolean.class)
-                        .timeout(java.time.Duration.ofSeconds(5))
-                        .block(); // Blocking call for simplicity, consider async in real app
-
-                if (Boolean.FALSE.equals(isInStock)) {
-                    throw new IllegalArgumentException("Product " + item.getProductId() + " is not in stock, please try again later.");
-                }
+            item.setUnitPrice(prices.get(item.getProductId()));
+            totalAmount = totalAmount.add(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+        }
+        order.setTotalAmount(totalAmount);
+    }
 
-                // Get current inventory to check available quantity before deducting
-                InventoryResponse inventoryResponse = null;
-                try {
-                    inventoryResponse = webClientBuilder.build().get()
-                            .uri("http://inventory-service/api/inventory/" + item.getProductId())
-                            .retrieve()
-                            .bodyToMono(InventoryResponse.class)
-                            .timeout(java.time.Duration.ofSeconds(5))
-                            .block();
-                } catch (Exception e) {
-                    log.warn("Could not fetch inventory details for product {}, proceeding with deduction", item.getProductId());
-                }
+    private Mono<StockReservationResponse> reserveStock(Order order) {
+        return inventoryClient.reserve(order)
+                .handle((response, sink) -> {
+                    if (response.isReserved()) {
+                        sink.next(response);
+                    } else {
+                        sink.error(new IllegalArgumentException(reservationErrorMessage(response)));
+                    }
+                });
+    }
 
-                // Deduct stock
-                Boolean deducted = webClientBuilder.build().post()
-                        .uri("http://inventory-service/api/inventory/outbound/" + item.getProductId() + "?quantity=" + item.getQuantity())
-                        .retrieve()
-                        .bodyToMono(Boolean.class)
-                        .timeout(java.time.Duration.ofSeconds(5))
-                        .block();
-
-                if (Boolean.FALSE.equals(deducted)) {
-                    String errorMsg;
-                    if (inventoryResponse == null) {
-                        errorMsg = String.format("Product %d has no inventory record. Please add inventory first.", item.getProductId());
-                    } else if (inventoryResponse.getQuantity() < item.getQuantity()) {
-                        errorMsg = String.format("Insufficient stock for product %d. Available: %d, Requested: %d", 
-                                item.getProductId(), inventoryResponse.getQuantity(), item.getQuantity());
+    private Mono<Map<Long, BigDecimal>> fetchUnitPrices(List<OrderItem> items) {
+        List<Long> productIds = items.stream().map(OrderItem::getProductId).distinct().toList();
+        return priceCache.getEffectivePrices(productIds)
+                .handle((prices, sink) -> {
+                    Optional<Long> unpriced = productIds.stream()
+                            .filter(productId -> prices.get(productId) == null)
+                            .findFirst();
+                    if (unpriced.isPresent()) {
+                        sink.error(new IllegalArgumentException("Could not retrieve price for product " + unpriced.get()));
                     } else {
-                        errorMsg = String.format("Failed to deduct stock for product %d. Please try again.", item.getProductId());
+                        sink.next(prices);
                     }
-                    throw new IllegalArgumentException(errorMsg);
-                }
+                });
+    }
 
-                // Call Pricing Service to get unit price
-                PriceResponse priceResponse = webClientBuilder.build().get()
-                        .uri("http://pricing-service/api/pricing/price/" + item.getProductId())
-                        .retrieve()
-                        .bodyToMono(PriceResponse.class)
-                        .timeout(java.time.Duration.ofSeconds(5))
-                        .block();
-
-                if (priceResponse != null && priceResponse.getCurrentPrice() != null) {
-                    item.setUnitPrice(priceResponse.getCurrentPrice());
-                    totalAmount = totalAmount.add(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
-                } else {
-                    throw new IllegalArgumentException("Could not retrieve price for product " + item.getProductId());
-                }
-            } catch (org.springframework.web.reactive.function.client.WebClientException e) {
-                log.error("Error calling service for product {}", item.getProductId(), e);
-                throw new RuntimeException("Service unavailable: Unable to process order. Please try again later.", e);
-            } catch (RuntimeException e) {
-                // Handle timeout and other reactor exceptions
-                // Timeout exceptions from Reactor are wrapped in RuntimeException
-                Throwable cause = e.getCause();
-                String message = e.getMessage();
-                String className = e.getClass().getName();
-                
-                // Check for timeout-related exceptions
-                if (cause instanceof java.util.concurrent.TimeoutException || 
-                    (message != null && message.toLowerCase().contains("timeout")) ||
-                    className.contains("Timeout")) {
-                    log.error("Timeout while calling service for product {}", item.getProductId(), e);
-                    throw new RuntimeException("Service timeout: Unable to process order. Please try again later.", e);
-                }
-                log.error("Error processing order item for product {}", item.getProductId(), e);
-                throw e;
-            } catch (Exception e) {
-                log.error("Unexpected error processing order item for product {}", item.getProductId(), e);
-                throw e;
-            }
+    private String reservationErrorMessage(StockReservationResponse response) {
+        return response.getLines().stream()
+                .filter(line -> line.getStatus() != ReservationStatus.RESERVED)
+                .findFirst()
+                .map(line -> line.getStatus() == ReservationStatus.MISSING
+                        ? String.format("Product %d has no inventory record. Please add inventory first.", line.getProductId())
+                        : String.format("Insufficient stock for product %d. Available: %d, Requested: %d",
+                                line.getProductId(), line.getAvailable(), line.getRequested()))
+                .orElse("Failed to reserve stock. Please try again.");
+    }
+
+    private RuntimeException translateServiceError(Throwable e) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            // Shed by the dependency's breaker or bulkhead; expected under load, so no stack trace
+            log.warn("Downstream call rejected: {}", e.getMessage());
+            return new ServiceUnavailableException("Service busy: Unable to process order. Please try again later.", e);
         }
-        order.setTotalAmount(totalAmount);
-        
-        // Set the order reference on all order items BEFORE saving
-        // This is required because OrderItem.order is marked as nullable=false
-        // and the Order entity has cascade=CascadeType.ALL
-        order.getOrderItems().forEach(orderItem -> orderItem.setOrder(order));
-        
-        // Save the order (this will cascade save the order items due to CascadeType.ALL)
-        orderRepository.save(order);
+        if (DownstreamMetrics.isTimeout(e)) {
+            log.error("Timeout while calling downstream services for order", e);
+            return new ServiceUnavailableException("Service timeout: Unable to process order. Please try again later.", e);
+        }
+        if (e instanceof WebClientException) {
+            log.error("Error calling downstream services for order", e);
+            return new ServiceUnavailableException("Service unavailable: Unable to process order. Please try again later.", e);
+        }
+        log.error("Unexpected error processing order", e);
+        return e instanceof RuntimeException runtimeException ? runtimeException : new RuntimeException(e);
+    }
 
-        log.info("Order {} created successfully for customer {}", order.getOrderNumber(), order.getCustomerId());
-        return order.getOrderNumber();
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrders(OrderFilter filter, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), clampPageSize(size),
+                Sort.by(Sort.Direction.DESC, "orderDate", "id"));
+        Page<Long> ids = orderRepository.findIds(filter.getCustomerId(), filter.getStatus(),
+                filter.getFrom(), filter.getTo(), pageable);
+        return OrderPageResponse.builder()
+                .content(loadOrders(ids.getContent()))
+                .page(ids.getNumber())
+                .size(ids.getSize())
+                .totalElements(ids.getTotalElements())
+                .totalPages(ids.getTotalPages())
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public List<OrderResponse> getAllOrders() {
-        return orderRepository.findAll().stream()
-                .map(this::mapToOrderResponse)
-                .toList();
+    public OrderSliceResponse scrollOrders(OrderFilter filter, Long afterId, int size) {
+        int limit = clampPageSize(size);
+        // One extra id tells us whether another slice follows without a count query
+        List<Long> ids = orderRepository.findIdsBefore(afterId, filter.getCustomerId(), filter.getStatus(),
+                filter.getFrom(), filter.getTo(), PageRequest.of(0, limit + 1));
+        boolean hasNext = ids.size() > limit;
+        List<Long> sliceIds = hasNext ? ids.subList(0, limit) : ids;
+        return OrderSliceResponse.builder()
+                .content(loadOrders(sliceIds))
+                .nextCursor(hasNext ? sliceIds.get(sliceIds.size() - 1) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Transactional(readOnly = true)
     public OrderResponse getOrderById(Long id) {
         return orderRepository.findById(id)
-                .map(this::mapToOrderResponse)
+                .map(orderMapper::mapToOrderResponse)
                 .orElse(null); // Or throw an exception
     }
 
     @Transactional
     public void updateOrderStatus(Long id, OrderStatus newStatus) {
-        orderRepository.findById(id).ifPresentOrElse(
+        orderRepository.findForUpdate(id).ifPresentOrElse(
                 order -> {
-                    order.setStatus(newStatus);
+                    changeStatus(order, newStatus);
                     orderRepository.save(order);
                     log.info("Order {} status updated to {}", order.getOrderNumber(), newStatus);
                 },
@@ -176,35 +496,106 @@ public class OrderService {
         );
     }
 
-    private OrderItem mapToOrderItem(OrderItemRequest orderItemRequest) {
-        return OrderItem.builder()
-                .productId(orderItemRequest.getProductId())
-                .quantity(orderItemRequest.getQuantity())
+    /**
+     * Moves many orders to one status. The affected rows are locked with one query, every allowed transition
+     * is applied with one UPDATE, and one status event per changed order is published from the locked
+     * snapshot. Orders that do not exist or whose status does not allow the transition are reported back.
+     */
+    @Transactional
+    public BulkStatusUpdateResponse updateOrderStatuses(BulkStatusUpdateRequest request) {
+        if (request.getStatus() == null || request.getOrderIds() == null) {
+            throw new IllegalArgumentException("Both status and orderIds are required");
+        }
+        OrderStatus newStatus = request.getStatus();
+        Set<OrderStatus> allowed = newStatus.allowedPreviousStatuses();
+        List<Long> updated = new ArrayList<>();
+        List<RejectedStatusUpdate> rejected = new ArrayList<>();
+
+        List<Long> orderIds = request.getOrderIds().stream().distinct().toList();
+        for (int start = 0; start < orderIds.size(); start += BULK_STATUS_CHUNK) {
+            List<Long> chunk = orderIds.subList(start, Math.min(start + BULK_STATUS_CHUNK, orderIds.size()));
+            Map<Long, Order> orders = orderRepository.findAllForUpdate(chunk).stream()
+                    .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+            List<Order> transitions = new ArrayList<>();
+            for (Long orderId : chunk) {
+                Order order = orders.get(orderId);
+                if (order == null) {
+                    rejected.add(RejectedStatusUpdate.builder().orderId(orderId).reason("Order not found").build());
+                } else if (!allowed.contains(order.getStatus())) {
+                    rejected.add(RejectedStatusUpdate.builder()
+                            .orderId(orderId)
+                            .currentStatus(order.getStatus())
+                            .reason("Cannot move from " + order.getStatus() + " to " + newStatus)
+                            .build());
+                } else {
+                    transitions.add(order);
+                }
+            }
+            if (transitions.isEmpty()) {
+                continue;
+            }
+
+            List<Long> transitionIds = transitions.stream().map(Order::getId).toList();
+            // One fetch of the chunk's items for the read models instead of one per order; the events are
+            // built before the update clears the persistence context. The rows are locked, so the snapshot
+            // still holds each order's previous status.
+            orderRepository.findAllWithItemsByIdIn(transitionIds);
+            List<OrderStatusChangedEvent> events = transitions.stream()
+                    .map(order -> OrderStatusChangedEvent.of(order, order.getStatus(), newStatus))
+                    .toList();
+            orderRepository.updateStatus(transitionIds, allowed, newStatus);
+            events.forEach(eventPublisher::publishEvent);
+            updated.addAll(transitionIds);
+        }
+
+        log.info("Bulk status update to {}: {} updated, {} rejected", newStatus, updated.size(), rejected.size());
+        return BulkStatusUpdateResponse.builder()
+                .status(newStatus)
+                .updated(updated)
+                .rejected(rejected)
                 .build();
     }
 
-    private OrderResponse mapToOrderResponse(Order order) {
-        List<OrderItemResponse> orderItemResponses = order.getOrderItems().stream()
-                .map(this::mapToOrderItemResponse)
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    // Loads the orders and their items for one page in a single fetch-join, keeping the page order
+    private List<OrderResponse> loadOrders(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Order> ordersById = orderRepository.findAllWithItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        return ids.stream()
+                .map(ordersById::get)
+                .filter(Objects::nonNull)
+                .map(orderMapper::mapToOrderResponse)
                 .toList();
+    }
 
-        return OrderResponse.builder()
-                .id(order.getId())
-                .orderNumber(order.getOrderNumber())
-                .customerId(order.getCustomerId())
-                .orderDate(order.getOrderDate())
-                .status(order.getStatus())
-                .totalAmount(order.getTotalAmount())
-                .orderItems(orderItemResponses)
-                .build();
+    private static Order requirePositiveQuantities(Order order) {
+        String error = quantityError(order);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+        return order;
+    }
+
+    // Inventory answers these with 400; catching them here keeps caller mistakes out of its circuit breaker
+    private static String quantityError(Order order) {
+        return order.getOrderItems().stream()
+                .filter(item -> item.getQuantity() == null || item.getQuantity() <= 0)
+                .findFirst()
+                .map(item -> "Quantity must be positive for product " + item.getProductId())
+                .orElse(null);
     }
 
-    private OrderItemResponse mapToOrderItemResponse(OrderItem orderItem) {
-        return OrderItemResponse.builder()
-                .id(orderItem.getId())
-                .productId(orderItem.getProductId())
-                .quantity(orderItem.getQuantity())
-                .unitPrice(orderItem.getUnitPrice())
+    private OrderItem mapToOrderItem(OrderItemRequest orderItemRequest) {
+        return OrderItem.builder()
+                .productId(orderItemRequest.getProductId())
+                .quantity(orderItemRequest.getQuantity())
                 .build();
     }
 }
@@ -0,0 +1,100 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.client.InventoryClient;
+import com.example.orderservice.dto.StockReservationRequest;
+import com.example.orderservice.model.OutboxEvent;
+import com.example.orderservice.model.OutboxStatus;
+import com.example.orderservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Polls the outbox and carries out due compensations. Delivery is at-least-once: an event is only
+ * deleted after the downstream call succeeded.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final InventoryClient inventoryClient;
+    private final JsonMapper jsonMapper;
+
+    @Value("${order.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${order.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${order.outbox.retry-backoff:30s}")
+    private Duration retryBackoff;
+
+    // How long a claimed event stays invisible to other instances while it is being relayed
+    @Value("${order.outbox.lease:2m}")
+    private Duration lease;
+
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval:5s}")
+    public void relay() {
+        List<OutboxEvent> due = outboxEventRepository.findDue(OutboxStatus.PENDING, LocalDateTime.now(),
+                PageRequest.of(0, batchSize));
+        for (OutboxEvent event : due) {
+            if (claim(event)) {
+                dispatch(event);
+            }
+        }
+    }
+
+    // Pushing availableAt forward under the version check lets only one instance relay the event
+    private boolean claim(OutboxEvent event) {
+        event.setAvailableAt(LocalDateTime.now().plus(lease));
+        try {
+            OutboxEvent claimed = outboxEventRepository.save(event);
+            event.setVersion(claimed.getVersion());
+            return true;
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("Outbox event {} was claimed by another instance", event.getId());
+            return false;
+        }
+    }
+
+    private void dispatch(OutboxEvent event) {
+        try {
+            switch (event.getType()) {
+                case STOCK_RELEASE -> inventoryClient
+                        .release(jsonMapper.readValue(event.getPayload(), StockReservationRequest.class))
+                        .block();
+            }
+            outboxEventRepository.deleteById(event.getId());
+            log.info("Relayed {} for order {}", event.getType(), event.getAggregateId());
+        } catch (RuntimeException e) {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(truncate(e.getMessage()));
+            if (attempts >= maxAttempts) {
+                event.setStatus(OutboxStatus.FAILED);
+                log.error("Giving up on {} for order {} after {} attempts", event.getType(), event.getAggregateId(),
+                        attempts, e);
+            } else {
+                event.setAvailableAt(LocalDateTime.now().plus(retryBackoff.multipliedBy(attempts)));
+                log.warn("Relaying {} for order {} failed (attempt {}): {}", event.getType(), event.getAggregateId(),
+                        attempts, e.getMessage());
+            }
+            outboxEventRepository.save(event);
+        }
+    }
+
+    private String truncate(String message) {
+        return message != null && message.length() > 255 ? message.substring(0, 255) : message;
+    }
+}
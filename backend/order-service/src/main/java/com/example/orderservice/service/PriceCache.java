@@ -0,0 +1,93 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.client.PricingClient;
+import com.example.orderservice.dto.PriceChangeNotification;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Near-cache of effective product prices. Misses of one lookup are fetched from pricing-service with a
+ * single bulk call; entries are refreshed in the background once they are older than the refresh
+ * interval and dropped when pricing-service reports a change, so a lost notification is only bounded
+ * by the expiry. Products without a price are not cached.
+ */
+@Component
+@Slf4j
+public class PriceCache {
+
+    private final AsyncLoadingCache<Long, BigDecimal> prices;
+
+    public PriceCache(PricingClient pricingClient,
+                      MeterRegistry meterRegistry,
+                      @Value("${order.price-cache.max-entries:10000}") long maxEntries,
+                      @Value("${order.price-cache.expire-after-write:10m}") Duration expireAfterWrite,
+                      @Value("${order.price-cache.refresh-after-write:1m}") Duration refreshAfterWrite) {
+        this.prices = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .recordStats()
+                .buildAsync(new BulkPriceLoader(pricingClient));
+        CaffeineCacheMetrics.monitor(meterRegistry, prices, "prices");
+        Gauge.builder("order.price.cache.hit.ratio", prices, cache -> cache.synchronous().stats().hitRate())
+                .description("Share of price lookups answered without calling pricing-service")
+                .register(meterRegistry);
+    }
+
+    public Mono<Map<Long, BigDecimal>> getEffectivePrices(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return Mono.fromFuture(() -> prices.getAll(productIds), true);
+    }
+
+    public void onChange(PriceChangeNotification notification) {
+        switch (notification.getType()) {
+            case PRICE, PROMOTION -> {
+                if (notification.getProductIds() == null || notification.getProductIds().isEmpty()) {
+                    prices.synchronous().invalidateAll();
+                    log.info("Price cache cleared after {} change", notification.getType());
+                } else {
+                    prices.synchronous().invalidateAll(notification.getProductIds());
+                    log.debug("Evicted prices of products {} after {} change",
+                            notification.getProductIds(), notification.getType());
+                }
+            }
+            // Vouchers apply to order totals, never to the cached unit prices; see VoucherCache
+            case VOUCHER -> {
+            }
+        }
+    }
+
+    private record BulkPriceLoader(PricingClient pricingClient) implements AsyncCacheLoader<Long, BigDecimal> {
+
+        @Override
+        public CompletableFuture<? extends BigDecimal> asyncLoad(Long productId, Executor executor) {
+            return pricingClient.getEffectivePrices(Set.of(productId))
+                    .mapNotNull(prices -> prices.get(productId))
+                    .toFuture();
+        }
+
+        @Override
+        public CompletableFuture<? extends Map<? extends Long, ? extends BigDecimal>> asyncLoadAll(
+                Set<? extends Long> productIds, Executor executor) {
+            return pricingClient.getEffectivePrices(Set.copyOf(productIds)).toFuture();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderItemRequest;
+import com.example.orderservice.dto.QuoteLine;
+import com.example.orderservice.dto.QuoteRequest;
+import com.example.orderservice.dto.QuoteResponse;
+import com.example.orderservice.dto.VoucherResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Prices a basket and reports whether it can be fulfilled, without reserving stock or using up a
+ * voucher. Everything comes from near-caches, so refreshing a cart while browsing rarely reaches
+ * another service and never writes. A quote is advisory: prices, stock and voucher state are checked
+ * again when the order is placed.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuoteService {
+
+    private final PriceCache priceCache;
+    private final StockLevelCache stockLevelCache;
+    private final VoucherCache voucherCache;
+
+    public QuoteResponse quote(QuoteRequest quoteRequest) {
+        // Merge repeated products, as the reservation does, so stock is compared with the full quantity
+        if (quoteRequest.getOrderItems() == null || quoteRequest.getOrderItems().isEmpty()) {
+            throw new IllegalArgumentException("A quote needs at least one item");
+        }
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItemRequest item : quoteRequest.getOrderItems()) {
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive for product " + item.getProductId());
+            }
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        String voucherCode = quoteRequest.getVoucherCode() == null || quoteRequest.getVoucherCode().isBlank()
+                ? null : quoteRequest.getVoucherCode().trim();
+
+        Mono<Optional<VoucherResponse>> voucher = voucherCode == null
+                ? Mono.just(Optional.empty())
+                : voucherCache.getVoucher(voucherCode);
+        return Mono.zip(priceCache.getEffectivePrices(quantities.keySet()),
+                        stockLevelCache.getAvailability(quantities.keySet()),
+                        voucher)
+                .map(snapshot -> buildQuote(quantities, snapshot.getT1(), snapshot.getT2(),
+                        voucherCode, snapshot.getT3().orElse(null), LocalDateTime.now()))
+                .onErrorMap(e -> !(e instanceof IllegalArgumentException),
+                        e -> new ServiceUnavailableException("Quote unavailable: " + e.getMessage(), e))
+                .block();
+    }
+
+    static QuoteResponse buildQuote(Map<Long, Integer> quantities, Map<Long, BigDecimal> prices,
+                                    Map<Long, Integer> stock, String voucherCode, VoucherResponse voucher,
+                                    LocalDateTime now) {
+        List<QuoteLine> lines = quantities.entrySet().stream()
+                .map(entry -> {
+                    BigDecimal unitPrice = prices.get(entry.getKey());
+                    if (unitPrice == null) {
+                        throw new IllegalArgumentException("Could not retrieve price for product " + entry.getKey());
+                    }
+                    Integer available = stock.get(entry.getKey());
+                    return QuoteLine.builder()
+                            .productId(entry.getKey())
+                            .quantity(entry.getValue())
+                            .unitPrice(unitPrice)
+                            .lineTotal(unitPrice.multiply(BigDecimal.valueOf(entry.getValue())))
+                            .available(available)
+                            .inStock(available != null && available >= entry.getValue())
+                            .build();
+                })
+                .toList();
+
+        BigDecimal subtotal = lines.stream().map(QuoteLine::getLineTotal).reduce(BigDecimal.ZERO, BigDecimal::add);
+        boolean voucherApplied = voucher != null && isRedeemable(voucher, subtotal, now);
+        return QuoteResponse.builder()
+                .lines(lines)
+                .subtotal(subtotal)
+                .voucherCode(voucherCode)
+                .voucherApplied(voucherApplied)
+                .total(voucherApplied ? applyVoucherDiscount(voucher, subtotal) : subtotal)
+                .inStock(lines.stream().allMatch(QuoteLine::isInStock))
+                .build();
+    }
+
+    // Same conditions and arithmetic as PricingService.applyVoucher in pricing-service
+    static boolean isRedeemable(VoucherResponse voucher, BigDecimal orderTotal, LocalDateTime now) {
+        return Boolean.TRUE.equals(voucher.getActive())
+                && voucher.getUsedCount() != null && voucher.getUsageLimit() != null
+                && voucher.getUsedCount() < voucher.getUsageLimit()
+                && (voucher.getValidFrom() == null || !now.isBefore(voucher.getValidFrom()))
+                && (voucher.getValidUntil() == null || !now.isAfter(voucher.getValidUntil()))
+                && (voucher.getMinOrderAmount() == null
+                        || orderTotal.compareTo(BigDecimal.valueOf(voucher.getMinOrderAmount())) >= 0);
+    }
+
+    static BigDecimal applyVoucherDiscount(VoucherResponse voucher, BigDecimal orderTotal) {
+        if ("PERCENTAGE".equalsIgnoreCase(voucher.getDiscountType())) {
+            return orderTotal.subtract(orderTotal.multiply(BigDecimal.valueOf(voucher.getValue()).divide(BigDecimal.valueOf(100))));
+        } else if ("FIXED".equalsIgnoreCase(voucher.getDiscountType())) {
+            return orderTotal.subtract(BigDecimal.valueOf(voucher.getValue()));
+        }
+        return orderTotal;
+    }
+}
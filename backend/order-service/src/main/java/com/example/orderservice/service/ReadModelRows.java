@@ -0,0 +1,32 @@
+package com.example.orderservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes rows of the read models (summaries, rollups) that are keyed by a natural id with a single
+ * {@code MERGE}, in the caller's transaction and on its connection, so updating a read model never takes a
+ * second pooled connection. When two transactions create the same row, the second one waits for the first,
+ * fails on the primary key once it commits and is retried against the committed row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadModelRows {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // JdbcTemplate rather than a modifying query: a failed JPA statement marks the whole order transaction
+    // rollback-only, while a failed JDBC statement is undone on its own and can be retried
+    public void merge(String sql, Object... args) {
+        try {
+            jdbcTemplate.update(sql, args);
+        } catch (DuplicateKeyException e) {
+            log.debug("Read model row was created concurrently, merging again: {}", e.getMessage());
+            jdbcTemplate.update(sql, args);
+        }
+    }
+}
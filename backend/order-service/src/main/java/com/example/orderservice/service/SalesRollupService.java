@@ -0,0 +1,159 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.CustomerTierSalesResponse;
+import com.example.orderservice.dto.DailySalesResponse;
+import com.example.orderservice.dto.ProductSalesResponse;
+import com.example.orderservice.event.OrderPlacedEvent;
+import com.example.orderservice.event.OrderStatusChangedEvent;
+import com.example.orderservice.model.ProductSalesRollup;
+import com.example.orderservice.repository.CustomerTierSalesRollupRepository;
+import com.example.orderservice.repository.DailySalesRollupRepository;
+import com.example.orderservice.repository.ProductSalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps revenue and units rolled up per day, per product and per customer tier. Placed orders are added
+ * and cancelled ones subtracted, always against the day and tier the order was placed with, in the same
+ * transaction as the order change. Each rollup row is changed with one atomic increment that creates it
+ * if needed, so reports are single-row or range reads instead of scans of {@code t_orders}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    private static final int MAX_PRODUCTS = 100;
+
+    private static final String MERGE_DAILY = """
+            MERGE INTO t_daily_sales_rollups r
+            USING (VALUES (CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS DECIMAL(38, 2))))
+                AS s (sales_date, order_count, units_sold, revenue)
+            ON r.sales_date = s.sales_date
+            WHEN MATCHED THEN UPDATE SET order_count = r.order_count + s.order_count,
+                units_sold = r.units_sold + s.units_sold, revenue = r.revenue + s.revenue
+            WHEN NOT MATCHED THEN INSERT (sales_date, order_count, units_sold, revenue)
+                VALUES (s.sales_date, s.order_count, s.units_sold, s.revenue)""";
+    private static final String MERGE_TIER = """
+            MERGE INTO t_customer_tier_sales_rollups r
+            USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS BIGINT), CAST(? AS DECIMAL(38, 2))))
+                AS s (customer_tier, order_count, revenue)
+            ON r.customer_tier = s.customer_tier
+            WHEN MATCHED THEN UPDATE SET order_count = r.order_count + s.order_count, revenue = r.revenue + s.revenue
+            WHEN NOT MATCHED THEN INSERT (customer_tier, order_count, revenue)
+                VALUES (s.customer_tier, s.order_count, s.revenue)""";
+    private static final String MERGE_PRODUCT = """
+            MERGE INTO t_product_sales_rollups r
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS DECIMAL(38, 2))))
+                AS s (product_id, units_sold, revenue)
+            ON r.product_id = s.product_id
+            WHEN MATCHED THEN UPDATE SET units_sold = r.units_sold + s.units_sold, revenue = r.revenue + s.revenue
+            WHEN NOT MATCHED THEN INSERT (product_id, units_sold, revenue)
+                VALUES (s.product_id, s.units_sold, s.revenue)""";
+
+    private final DailySalesRollupRepository dailyRepository;
+    private final ProductSalesRollupRepository productRepository;
+    private final CustomerTierSalesRollupRepository tierRepository;
+    private final ReadModelRows readModelRows;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        apply(event.getOrderDate().toLocalDate(), event.getCustomerTier(), event.getTotalAmount(), event.getLines(), 1);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        // Orders that were never priced were never added
+        if (event.getTotalAmount() == null) {
+            return;
+        }
+        int sign = (event.getNewStatus().isCounted() ? 1 : 0) - (event.getPreviousStatus().isCounted() ? 1 : 0);
+        if (sign == 0) {
+            return;
+        }
+        apply(event.getOrderDate().toLocalDate(), event.getCustomerTier(), event.getTotalAmount(), event.getLines(), sign);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailySalesResponse> getDailySales(LocalDate from, LocalDate to) {
+        return dailyRepository.findBySalesDateBetweenOrderBySalesDate(from, to).stream()
+                .map(rollup -> DailySalesResponse.builder()
+                        .date(rollup.getSalesDate())
+                        .orderCount(rollup.getOrderCount())
+                        .unitsSold(rollup.getUnitsSold())
+                        .revenue(rollup.getRevenue())
+                        .build())
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSalesResponse> getTopProducts(int limit) {
+        return productRepository.findAllByOrderByRevenueDesc(PageRequest.of(0, Math.min(Math.max(limit, 1), MAX_PRODUCTS)))
+                .stream()
+                .map(this::mapToProductSalesResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public ProductSalesResponse getProductSales(Long productId) {
+        return productRepository.findById(productId)
+                .map(this::mapToProductSalesResponse)
+                .orElseGet(() -> ProductSalesResponse.builder()
+                        .productId(productId)
+                        .revenue(BigDecimal.ZERO)
+                        .build());
+    }
+
+    @Transactional(readOnly = true)
+    public List<CustomerTierSalesResponse> getTierSales() {
+        return tierRepository.findAll().stream()
+                .map(rollup -> CustomerTierSalesResponse.builder()
+                        .customerTier(rollup.getCustomerTier())
+                        .orderCount(rollup.getOrderCount())
+                        .revenue(rollup.getRevenue())
+                        .build())
+                .toList();
+    }
+
+    private void apply(LocalDate day, String customerTier, BigDecimal totalAmount, List<OrderPlacedEvent.Line> lines,
+                       int sign) {
+        String tier = customerTier != null ? customerTier : CustomerTierResolver.UNKNOWN;
+        BigDecimal signedTotal = totalAmount.multiply(BigDecimal.valueOf(sign));
+        long units = lines.stream().mapToLong(OrderPlacedEvent.Line::getQuantity).sum();
+
+        readModelRows.merge(MERGE_DAILY, day, sign, sign * units, signedTotal);
+        readModelRows.merge(MERGE_TIER, tier, sign, signedTotal);
+
+        // One increment per product, in id order so concurrent orders lock product rows in the same order
+        Map<Long, Long> unitsByProduct = new TreeMap<>();
+        Map<Long, BigDecimal> revenueByProduct = new TreeMap<>();
+        for (OrderPlacedEvent.Line line : lines) {
+            unitsByProduct.merge(line.getProductId(), (long) line.getQuantity(), Long::sum);
+            revenueByProduct.merge(line.getProductId(),
+                    line.getUnitPrice().multiply(BigDecimal.valueOf(line.getQuantity())), BigDecimal::add);
+        }
+        unitsByProduct.forEach((productId, productUnits) -> {
+            BigDecimal productRevenue = revenueByProduct.get(productId).multiply(BigDecimal.valueOf(sign));
+            readModelRows.merge(MERGE_PRODUCT, productId, sign * productUnits, productRevenue);
+        });
+    }
+
+    private ProductSalesResponse mapToProductSalesResponse(ProductSalesRollup rollup) {
+        return ProductSalesResponse.builder()
+                .productId(rollup.getProductId())
+                .unitsSold(rollup.getUnitsSold())
+                .revenue(rollup.getRevenue())
+                .build();
+    }
+}
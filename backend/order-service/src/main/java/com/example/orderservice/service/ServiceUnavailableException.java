@@ -0,0 +1,12 @@
+package com.example.orderservice.service;
+
+/**
+ * A downstream service needed for the request timed out, failed, or is being shed by its bulkhead or
+ * circuit breaker. The request can be retried later.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
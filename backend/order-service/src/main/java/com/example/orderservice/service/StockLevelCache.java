@@ -0,0 +1,64 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.client.InventoryClient;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Short-lived snapshot of stock levels for quotes. Stock changes with every order, so entries are not
+ * invalidated but simply expire after a few seconds; a quote may therefore show a product in stock that
+ * the reservation at placement then refuses. Products without inventory are not cached.
+ */
+@Component
+public class StockLevelCache {
+
+    private final AsyncLoadingCache<Long, Integer> stockLevels;
+
+    public StockLevelCache(InventoryClient inventoryClient,
+                           MeterRegistry meterRegistry,
+                           @Value("${order.quote.stock.max-entries:10000}") long maxEntries,
+                           @Value("${order.quote.stock.expire-after-write:5s}") Duration expireAfterWrite) {
+        this.stockLevels = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync(new BulkStockLoader(inventoryClient));
+        CaffeineCacheMetrics.monitor(meterRegistry, stockLevels, "stock-levels");
+    }
+
+    public Mono<Map<Long, Integer>> getAvailability(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return Mono.fromFuture(() -> stockLevels.getAll(productIds), true);
+    }
+
+    private record BulkStockLoader(InventoryClient inventoryClient) implements AsyncCacheLoader<Long, Integer> {
+
+        @Override
+        public CompletableFuture<? extends Integer> asyncLoad(Long productId, Executor executor) {
+            return inventoryClient.getAvailability(Set.of(productId))
+                    .mapNotNull(stock -> stock.get(productId))
+                    .toFuture();
+        }
+
+        @Override
+        public CompletableFuture<? extends Map<? extends Long, ? extends Integer>> asyncLoadAll(
+                Set<? extends Long> productIds, Executor executor) {
+            return inventoryClient.getAvailability(Set.copyOf(productIds)).toFuture();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.orderservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Default order numbers: a 63-bit value of milliseconds since 2024-01-01 (41 bits), node id (10 bits)
+ * and a per-millisecond sequence (12 bits), rendered as {@code ORD-} plus 13 upper-case base-36 digits.
+ * Numbers from one node are strictly increasing and sort by creation time as plain strings, so inserts
+ * land at the end of an index on {@code orderNumber}. Generation is a single CAS on an {@link AtomicLong}.
+ */
+@Component
+@Slf4j
+public class TimeOrderedOrderNumberGenerator implements OrderNumberGenerator {
+
+    static final String PREFIX = "ORD-";
+    static final int DIGITS = 13;
+
+    private static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    // Last issued timestamp and sequence, packed as (timestamp << SEQUENCE_BITS) | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public TimeOrderedOrderNumberGenerator(@Value("${order.number.node-id:-1}") long nodeId,
+                                           @Value("${server.port:8083}") int port) {
+        this(nodeId >= 0 ? nodeId : deriveNodeId(port), System::currentTimeMillis);
+        log.info("Generating order numbers with node id {}", this.nodeId);
+    }
+
+    TimeOrderedOrderNumberGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextOrderNumber() {
+        return format(nextValue());
+    }
+
+    long nextValue() {
+        while (true) {
+            long current = state.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            // When the clock has not moved (or went backwards) keep counting from the last state; a full
+            // sequence carries into the timestamp, borrowing the next millisecond instead of spinning
+            long next = now > current >>> SEQUENCE_BITS ? now << SEQUENCE_BITS : current + 1;
+            if (state.compareAndSet(current, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    static String format(long value) {
+        String digits = Long.toString(value, 36).toUpperCase(Locale.ROOT);
+        return PREFIX + "0".repeat(DIGITS - digits.length()) + digits;
+    }
+
+    // Good enough to keep instances on different hosts or ports apart; set order.number.node-id to be certain
+    private static long deriveNodeId(int port) {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "localhost";
+        }
+        return ((host + ":" + port).hashCode() & Integer.MAX_VALUE) % (MAX_NODE_ID + 1);
+    }
+}
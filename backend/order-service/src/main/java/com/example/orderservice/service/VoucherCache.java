@@ -0,0 +1,60 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.client.PricingClient;
+import com.example.orderservice.dto.PriceChangeNotification;
+import com.example.orderservice.dto.VoucherResponse;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Near-cache of vouchers by code for quotes. Unknown codes are cached too, so a user retyping a wrong
+ * code does not reach pricing-service each time. Entries are dropped when pricing-service reports a
+ * voucher change, which includes a voucher reaching its usage limit.
+ */
+@Component
+@Slf4j
+public class VoucherCache {
+
+    private final AsyncLoadingCache<String, Optional<VoucherResponse>> vouchers;
+
+    public VoucherCache(PricingClient pricingClient,
+                        MeterRegistry meterRegistry,
+                        @Value("${order.quote.voucher.max-entries:1000}") long maxEntries,
+                        @Value("${order.quote.voucher.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.vouchers = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync((code, executor) -> pricingClient.getVoucher(code)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .toFuture());
+        CaffeineCacheMetrics.monitor(meterRegistry, vouchers, "vouchers");
+    }
+
+    public Mono<Optional<VoucherResponse>> getVoucher(String code) {
+        return Mono.fromFuture(() -> vouchers.get(code), true);
+    }
+
+    public void onChange(PriceChangeNotification notification) {
+        if (notification.getType() != PriceChangeNotification.ChangeType.VOUCHER) {
+            return;
+        }
+        if (notification.getVoucherCode() == null) {
+            vouchers.synchronous().invalidateAll();
+            log.info("Voucher cache cleared");
+        } else {
+            vouchers.synchronous().invalidate(notification.getVoucherCode());
+            log.debug("Evicted voucher {}", notification.getVoucherCode());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.orderservice.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticDistributionsTests {
+
+	@Test
+	void zipfFavoursLowRanksAndStaysInRange() {
+		ZipfSampler sampler = new ZipfSampler(1000, 1.0);
+		Random random = new Random(1);
+		int[] counts = new int[1001];
+		for (int i = 0; i < 200_000; i++) {
+			counts[sampler.sample(random)]++;
+		}
+
+		assertThat(counts[0]).isZero();
+		// With exponent 1, rank 1 is drawn about twice as often as rank 2 and ten times as often as rank 10
+		assertThat((double) counts[1] / counts[2]).isBetween(1.8, 2.2);
+		assertThat((double) counts[1] / counts[10]).isBetween(8.5, 11.5);
+		assertThat(Arrays.stream(counts).sum()).isEqualTo(200_000);
+	}
+
+	@Test
+	void dailyCountsAddUpAndTimesStayOnTheirDay() {
+		LocalDate last = LocalDate.of(2025, 12, 31);
+		SeasonalCalendar calendar = new SeasonalCalendar(last, 365);
+		long[] counts = calendar.dailyCounts(100_003);
+
+		assertThat(Arrays.stream(counts).sum()).isEqualTo(100_003);
+		assertThat(calendar.day(0)).isEqualTo(LocalDate.of(2025, 1, 1));
+		assertThat(calendar.day(calendar.days() - 1)).isEqualTo(last);
+		// December is the busiest month, July the quietest
+		assertThat(Arrays.stream(counts, 334, 365).sum()).isGreaterThan(Arrays.stream(counts, 181, 212).sum());
+
+		Random random = new Random(1);
+		for (int i = 0; i < 1000; i++) {
+			LocalDateTime time = calendar.timeOn(last, random);
+			assertThat(time.toLocalDate()).isEqualTo(last);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.example.orderservice.load;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How a stub answers: after a fixed latency plus uniform jitter, and with the given share of requests
+ * failing with 503. Read from system properties, e.g. {@code -Dload.inventory.latency-ms=40
+ * -Dload.inventory.jitter-ms=20 -Dload.inventory.failure-rate=0.01}.
+ */
+record FaultProfile(Duration latency, Duration jitter, double failureRate) {
+
+	static FaultProfile fromSystemProperties(String prefix, long defaultLatencyMillis) {
+		return new FaultProfile(
+				Duration.ofMillis(Long.getLong(prefix + ".latency-ms", defaultLatencyMillis)),
+				Duration.ofMillis(Long.getLong(prefix + ".jitter-ms", defaultLatencyMillis / 2)),
+				Double.parseDouble(System.getProperty(prefix + ".failure-rate", "0")));
+	}
+
+	Duration nextDelay() {
+		long jitterNanos = jitter.toNanos();
+		return jitterNanos == 0 ? latency : latency.plusNanos(ThreadLocalRandom.current().nextLong(jitterNanos + 1));
+	}
+
+	boolean nextFails() {
+		return failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("latency %dms + up to %dms, %.2f%% failures", latency.toMillis(), jitter.toMillis(),
+				failureRate * 100);
+	}
+}
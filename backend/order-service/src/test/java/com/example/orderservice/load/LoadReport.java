@@ -0,0 +1,52 @@
+package com.example.orderservice.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of one load run: what was offered, what completed with which status, and the latency
+ * distribution of every measured request, successful or not.
+ */
+record LoadReport(double offeredRate, Duration duration, long sent, Map<Integer, Long> statuses, long errors,
+		long unfinished, Histogram latencies) {
+
+	long succeeded() {
+		return statuses.entrySet().stream()
+				.filter(entry -> entry.getKey() >= 200 && entry.getKey() < 300)
+				.mapToLong(Map.Entry::getValue)
+				.sum();
+	}
+
+	double throughput() {
+		return succeeded() / (duration.toNanos() / 1e9);
+	}
+
+	String summary() {
+		return String.format("""
+						offered      %.1f req/s for %ds (%d requests)
+						throughput   %.1f successful req/s
+						statuses     %s, transport errors %d, unfinished %d
+						latency      p50 %s  p90 %s  p99 %s  p99.9 %s  max %s""",
+				offeredRate, duration.toSeconds(), sent, throughput(), statuses, errors, unfinished,
+				millis(50), millis(90), millis(99), millis(99.9), millis(100));
+	}
+
+	// The .hgrm file can be plotted or compared between runs, e.g. with the HdrHistogram plotter
+	void write(Path directory, String name) throws IOException {
+		Files.createDirectories(directory);
+		Files.writeString(directory.resolve(name + ".txt"), summary() + System.lineSeparator());
+		try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")))) {
+			latencies.outputPercentileDistribution(out, 1_000_000.0);
+		}
+	}
+
+	private String millis(double percentile) {
+		return String.format("%.1fms", latencies.getValueAtPercentile(percentile) / 1_000_000.0);
+	}
+}
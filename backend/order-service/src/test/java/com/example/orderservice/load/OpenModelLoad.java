@@ -0,0 +1,90 @@
+package com.example.orderservice.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Fires requests at a target arrival rate regardless of how many are still outstanding, as independent
+ * users would. Latency is measured from when a request was due to start, not from when it actually
+ * started, so a stalled server is not hidden by the generator falling behind (coordinated omission).
+ * Requests due during the warm-up are sent but not recorded.
+ */
+final class OpenModelLoad {
+
+	private static final long MAX_TRACKED_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+	private final double ratePerSecond;
+	private final boolean poissonArrivals;
+	private final Duration warmup;
+	private final Duration duration;
+
+	OpenModelLoad(double ratePerSecond, boolean poissonArrivals, Duration warmup, Duration duration) {
+		this.ratePerSecond = ratePerSecond;
+		this.poissonArrivals = poissonArrivals;
+		this.warmup = warmup;
+		this.duration = duration;
+	}
+
+	/**
+	 * @param request sends one request and completes with its HTTP status
+	 */
+	LoadReport run(Supplier<CompletableFuture<Integer>> request, Duration drainTimeout) throws InterruptedException {
+		Histogram latencies = new ConcurrentHistogram(MAX_TRACKED_NANOS, 3);
+		Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+		LongAdder errors = new LongAdder();
+		AtomicInteger outstanding = new AtomicInteger();
+		double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+		long start = System.nanoTime();
+		long measureFrom = start + warmup.toNanos();
+		long end = measureFrom + duration.toNanos();
+		long due = start;
+		long sent = 0;
+		while (due < end) {
+			long wait = due - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			long dueAt = due;
+			boolean measured = dueAt >= measureFrom;
+			outstanding.incrementAndGet();
+			sent += measured ? 1 : 0;
+			request.get().whenComplete((status, failure) -> {
+				outstanding.decrementAndGet();
+				if (!measured) {
+					return;
+				}
+				latencies.recordValue(Math.min(System.nanoTime() - dueAt, MAX_TRACKED_NANOS));
+				if (failure != null) {
+					errors.increment();
+				} else {
+					statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+				}
+			});
+			due += poissonArrivals
+					? (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos)
+					: (long) meanGapNanos;
+		}
+		long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+		while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+			Thread.sleep(10);
+		}
+
+		Map<Integer, Long> statusCounts = new TreeMap<>();
+		statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+		return new LoadReport(ratePerSecond, duration, sent, statusCounts, errors.sum(), outstanding.get(),
+				latencies.copy());
+	}
+}
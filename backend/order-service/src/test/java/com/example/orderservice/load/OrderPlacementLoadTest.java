@@ -0,0 +1,149 @@
+package com.example.orderservice.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Places orders through {@code POST /api/order} of a real order-service at an open-model arrival rate.
+ * Inventory, pricing and customer-service are local stubs with configurable latency and failures, found
+ * through the simple discovery client instead of Eureka. Excluded from the normal build; run with
+ * {@code mvn test -Pload-test}, tuned with system properties:
+ * <ul>
+ *     <li>{@code load.rate} (orders per second, default 100), {@code load.duration-s} (30),
+ *     {@code load.warmup-s} (10), {@code load.arrivals} ({@code poisson} or {@code constant})</li>
+ *     <li>{@code load.lines} per order (3) over {@code load.products} products (1000) and
+ *     {@code load.customers} customers (1000)</li>
+ *     <li>{@code load.inventory.*}, {@code load.pricing.*}, {@code load.customer.*}: {@code latency-ms},
+ *     {@code jitter-ms}, {@code failure-rate}; see {@link FaultProfile}</li>
+ * </ul>
+ * Prices are served from order-service's cache after the first miss; add
+ * {@code -Dorder.price-cache.max-entries=0} to send every order to the pricing stub. The summary and an
+ * HdrHistogram percentile distribution are written to {@code target/load-test}.
+ */
+@Tag("load")
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"eureka.client.enabled=false",
+		"spring.jpa.show-sql=false",
+		"logging.level.com.example.orderservice=WARN",
+		// The test's own setup line and summary
+		"logging.level.com.example.orderservice.load=INFO"
+})
+class OrderPlacementLoadTest {
+
+	private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+	private static StubServer inventory;
+	private static StubServer pricing;
+	private static StubServer customer;
+
+	@Value("${local.server.port}")
+	private int port;
+
+	@DynamicPropertySource
+	static void stubServices(DynamicPropertyRegistry registry) {
+		inventory = StubServer.create("inventory-service", FaultProfile.fromSystemProperties("load.inventory", 20))
+				.route("/api/inventory/reserve", (path, body) -> "{\"reserved\":true,\"lines\":[]}")
+				.route("/api/inventory/release", (path, body) -> "{}")
+				.start();
+		pricing = StubServer.create("pricing-service", FaultProfile.fromSystemProperties("load.pricing", 10))
+				.route("/api/pricing/price/bulk", (path, body) -> priceMap(body))
+				.start();
+		customer = StubServer.create("customer-service", FaultProfile.fromSystemProperties("load.customer", 5))
+				.route("/api/customer/", (path, body) -> "{\"id\":" + path.substring(path.lastIndexOf('/') + 1)
+						+ ",\"membershipLevel\":\"Silver\"}")
+				.start();
+		registry.add("spring.cloud.discovery.client.simple.instances.inventory-service[0].uri", inventory::uri);
+		registry.add("spring.cloud.discovery.client.simple.instances.pricing-service[0].uri", pricing::uri);
+		registry.add("spring.cloud.discovery.client.simple.instances.customer-service[0].uri", customer::uri);
+	}
+
+	@AfterAll
+	static void stopStubs() {
+		for (StubServer stub : new StubServer[]{inventory, pricing, customer}) {
+			if (stub != null) {
+				stub.close();
+			}
+		}
+	}
+
+	@Test
+	void placeOrdersAtTargetArrivalRate() throws Exception {
+		double rate = Double.parseDouble(System.getProperty("load.rate", "100"));
+		Duration duration = Duration.ofSeconds(Long.getLong("load.duration-s", 30));
+		Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-s", 10));
+		boolean poisson = !"constant".equals(System.getProperty("load.arrivals", "poisson"));
+		int lines = Integer.getInteger("load.lines", 3);
+		int products = Integer.getInteger("load.products", 1000);
+		int customers = Integer.getInteger("load.customers", 1000);
+
+		HttpClient client = HttpClient.newBuilder()
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+		URI orders = URI.create("http://127.0.0.1:" + port + "/api/order");
+
+		log.info("Load test against {}, {}, {}", inventory, pricing, customer);
+		LoadReport report = new OpenModelLoad(rate, poisson, warmup, duration).run(() -> client.sendAsync(
+						HttpRequest.newBuilder(orders)
+								.timeout(Duration.ofSeconds(30))
+								.header("Content-Type", "application/json")
+								.POST(HttpRequest.BodyPublishers.ofString(randomOrder(lines, products, customers)))
+								.build(),
+						HttpResponse.BodyHandlers.discarding())
+				.thenApply(HttpResponse::statusCode), Duration.ofSeconds(30));
+
+		log.info("{}", report.summary());
+		report.write(Path.of("target", "load-test"), "order-placement");
+		assertThat(report.sent()).isPositive();
+	}
+
+	private static String randomOrder(int lines, int products, int customers) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Set<Integer> productIds = new LinkedHashSet<>();
+		while (productIds.size() < Math.min(lines, products)) {
+			productIds.add(1 + random.nextInt(products));
+		}
+		return "{\"customerId\":" + (1 + random.nextInt(customers)) + ",\"orderItems\":["
+				+ productIds.stream()
+						.map(productId -> "{\"productId\":" + productId + ",\"quantity\":" + (1 + random.nextInt(3)) + "}")
+						.collect(Collectors.joining(","))
+				+ "]}";
+	}
+
+	// Every requested product is priced, so no order is rejected for a missing price
+	private static String priceMap(String productIds) {
+		Matcher matcher = NUMBER.matcher(productIds);
+		StringBuilder prices = new StringBuilder("{");
+		while (matcher.find()) {
+			if (prices.length() > 1) {
+				prices.append(',');
+			}
+			long productId = Long.parseLong(matcher.group());
+			prices.append('"').append(productId).append("\":").append((50 + productId * 7919 % 1950) / 100.0);
+		}
+		return prices.append('}').toString();
+	}
+}
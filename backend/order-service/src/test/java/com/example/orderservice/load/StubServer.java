@@ -0,0 +1,90 @@
+package com.example.orderservice.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+/**
+ * A local HTTP server standing in for a downstream service. Every route answers after the delay of its
+ * fault profile, on its own virtual thread, so slow answers never queue behind each other.
+ */
+final class StubServer implements AutoCloseable {
+
+	private final String name;
+	private final FaultProfile faults;
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private StubServer(String name, FaultProfile faults) throws IOException {
+		this.name = name;
+		this.faults = faults;
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.setExecutor(executor);
+	}
+
+	static StubServer create(String name, FaultProfile faults) {
+		try {
+			return new StubServer(name, faults);
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not start stub " + name, e);
+		}
+	}
+
+	// Answers requests under the path prefix with the JSON the handler returns for the path and body
+	StubServer route(String pathPrefix, BiFunction<String, String, String> handler) {
+		server.createContext(pathPrefix, exchange -> {
+			try (exchange) {
+				String requestBody = readBody(exchange);
+				Thread.sleep(faults.nextDelay());
+				if (faults.nextFails()) {
+					exchange.sendResponseHeaders(503, -1);
+					return;
+				}
+				byte[] response = handler.apply(exchange.getRequestURI().getPath(), requestBody)
+						.getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set("Content-Type", "application/json");
+				exchange.sendResponseHeaders(200, response.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(response);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		return this;
+	}
+
+	StubServer start() {
+		server.start();
+		return this;
+	}
+
+	String uri() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@Override
+	public String toString() {
+		return name + " at " + uri() + " (" + faults + ")";
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private static String readBody(HttpExchange exchange) throws IOException {
+		try (InputStream in = exchange.getRequestBody()) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderItem;
+import com.example.orderservice.model.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderPersistenceBatchingTests {
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void largeOrderIsWrittenInAHandfulOfStatements() {
+		Order order = Order.builder()
+				.orderNumber("ORD-BATCHING00001")
+				.customerId(1L)
+				.orderDate(LocalDateTime.now())
+				.status(OrderStatus.NEW)
+				.totalAmount(BigDecimal.ZERO)
+				.orderItems(new ArrayList<>())
+				.build();
+		for (long productId = 1; productId <= 50; productId++) {
+			order.getOrderItems().add(OrderItem.builder()
+					.productId(productId)
+					.quantity(1)
+					.unitPrice(BigDecimal.ONE)
+					.order(order)
+					.build());
+		}
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		orderRepository.save(order);
+		entityManager.flush();
+
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(51);
+		// At most two sequence calls per table while the pooled optimizer initialises, one insert for
+		// the order and one batch for all 50 items; IDENTITY ids needed 51 separate inserts
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+	}
+}
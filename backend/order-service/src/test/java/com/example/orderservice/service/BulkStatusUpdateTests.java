@@ -0,0 +1,93 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.BulkStatusUpdateRequest;
+import com.example.orderservice.dto.BulkStatusUpdateResponse;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderItem;
+import com.example.orderservice.model.OrderStatus;
+import com.example.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class BulkStatusUpdateTests {
+
+	private static final long MISSING_ORDER_ID = Long.MAX_VALUE;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Test
+	void movesOrdersThatAllowTheTransitionAndReportsTheRest() {
+		Order placed = order(1, OrderStatus.NEW);
+		Order completed = order(2, OrderStatus.COMPLETED);
+		orderRepository.saveAllAndFlush(List.of(placed, completed));
+
+		BulkStatusUpdateResponse response = orderService.updateOrderStatuses(new BulkStatusUpdateRequest(
+				List.of(placed.getId(), completed.getId(), MISSING_ORDER_ID), OrderStatus.CANCELLED));
+
+		assertThat(response.getUpdated()).containsExactly(placed.getId());
+		assertThat(response.getRejected()).satisfiesExactly(
+				rejected -> {
+					assertThat(rejected.getOrderId()).isEqualTo(completed.getId());
+					assertThat(rejected.getCurrentStatus()).isEqualTo(OrderStatus.COMPLETED);
+					assertThat(rejected.getReason()).isEqualTo("Cannot move from COMPLETED to CANCELLED");
+				},
+				rejected -> {
+					assertThat(rejected.getOrderId()).isEqualTo(MISSING_ORDER_ID);
+					assertThat(rejected.getReason()).isEqualTo("Order not found");
+				});
+		assertThat(orderRepository.findById(placed.getId())).get()
+				.extracting(Order::getStatus).isEqualTo(OrderStatus.CANCELLED);
+		assertThat(orderRepository.findById(completed.getId())).get()
+				.extracting(Order::getStatus).isEqualTo(OrderStatus.COMPLETED);
+	}
+
+	@Test
+	void updatesRequestsLargerThanOneChunk() {
+		List<Order> orders = IntStream.rangeClosed(1, 501).mapToObj(i -> order(i, OrderStatus.NEW)).toList();
+		orderRepository.saveAllAndFlush(orders);
+		List<Long> orderIds = new ArrayList<>(orders.stream().map(Order::getId).toList());
+		// Repeated ids are moved once
+		orderIds.add(orderIds.getFirst());
+
+		BulkStatusUpdateResponse response = orderService.updateOrderStatuses(
+				new BulkStatusUpdateRequest(orderIds, OrderStatus.PROCESSING));
+
+		assertThat(response.getUpdated()).hasSize(501);
+		assertThat(response.getRejected()).isEmpty();
+		assertThat(orderRepository.findAllById(orderIds)).extracting(Order::getStatus).containsOnly(OrderStatus.PROCESSING);
+	}
+
+	private Order order(int sequence, OrderStatus status) {
+		Order order = Order.builder()
+				.orderNumber(String.format("ORD-BULK%09d", sequence))
+				.customerId(1L)
+				.orderDate(LocalDateTime.now())
+				.status(status)
+				.totalAmount(BigDecimal.TEN)
+				.orderItems(new ArrayList<>())
+				.build();
+		order.getOrderItems().add(OrderItem.builder()
+				.productId(1L)
+				.quantity(1)
+				.unitPrice(BigDecimal.TEN)
+				.order(order)
+				.build());
+		return order;
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.orderservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerTierResolverTests {
+
+	// Orders without a customer never reach customer-service
+	private final CustomerTierResolver resolver = new CustomerTierResolver(
+			null, Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofMillis(500), 100);
+
+	@Test
+	void ordersWithoutCustomerAreUnknown() {
+		assertThat(resolver.resolve(null).block()).isEqualTo(CustomerTierResolver.UNKNOWN);
+		assertThat(resolver.resolveAll(Arrays.asList(null, null)).block()).isEmpty();
+	}
+}
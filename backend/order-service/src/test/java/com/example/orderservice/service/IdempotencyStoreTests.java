@@ -0,0 +1,126 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.OrderRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTests {
+
+	private static final OrderRequest REQUEST = new OrderRequest(1L, null);
+	private static final OrderRequest OTHER_REQUEST = new OrderRequest(2L, null);
+
+	private final AtomicInteger executions = new AtomicInteger();
+
+	@Test
+	void replaysCompletedResult() {
+		IdempotencyStore store = store(100);
+
+		assertThat(store.execute("key", REQUEST, placement("ORD-1"))).isEqualTo("ORD-1");
+		assertThat(store.execute("key", REQUEST, placement("ORD-2"))).isEqualTo("ORD-1");
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void refusesKeyReusedWithDifferentRequest() {
+		IdempotencyStore store = store(100);
+		store.execute("key", REQUEST, placement("ORD-1"));
+
+		assertThatThrownBy(() -> store.execute("key", OTHER_REQUEST, placement("ORD-2")))
+				.isInstanceOf(IdempotencyStore.KeyReusedException.class);
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void concurrentDuplicateWaitsForOriginal() throws Exception {
+		IdempotencyStore store = store(100);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> original = CompletableFuture.supplyAsync(
+				() -> store.execute("key", REQUEST, blockedPlacement("ORD-1", release)));
+		awaitExecutions(1);
+
+		CompletableFuture<String> duplicate = CompletableFuture.supplyAsync(
+				() -> store.execute("key", REQUEST, placement("ORD-2")));
+		Thread.sleep(100);
+		assertThat(duplicate).isNotDone();
+
+		release.countDown();
+		assertThat(original.get(5, TimeUnit.SECONDS)).isEqualTo("ORD-1");
+		assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("ORD-1");
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void doesNotStoreFailedExecution() {
+		IdempotencyStore store = store(100);
+
+		assertThatThrownBy(() -> store.execute("key", REQUEST, () -> {
+			throw new IllegalStateException("inventory down");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(store.execute("key", REQUEST, placement("ORD-1"))).isEqualTo("ORD-1");
+	}
+
+	@Test
+	void keepsInFlightEntryUnderSizePressure() throws Exception {
+		IdempotencyStore store = store(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> original = CompletableFuture.supplyAsync(
+				() -> store.execute("in-flight", REQUEST, blockedPlacement("ORD-0", release)));
+		awaitExecutions(1);
+
+		for (int i = 1; i <= 50; i++) {
+			store.execute("key-" + i, REQUEST, placement("ORD-" + i));
+		}
+		store.cleanUp();
+
+		CompletableFuture<String> duplicate = CompletableFuture.supplyAsync(
+				() -> store.execute("in-flight", REQUEST, placement("ORD-duplicate")));
+		Thread.sleep(100);
+		assertThat(duplicate).isNotDone();
+
+		release.countDown();
+		assertThat(original.get(5, TimeUnit.SECONDS)).isEqualTo("ORD-0");
+		assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("ORD-0");
+		assertThat(executions).hasValue(51);
+	}
+
+	private IdempotencyStore store(long maxEntries) {
+		return new IdempotencyStore(new SimpleMeterRegistry(), Duration.ofHours(1), Duration.ofSeconds(5), maxEntries);
+	}
+
+	private Supplier<String> placement(String orderNumber) {
+		return () -> {
+			executions.incrementAndGet();
+			return orderNumber;
+		};
+	}
+
+	private Supplier<String> blockedPlacement(String orderNumber, CountDownLatch release) {
+		return () -> {
+			executions.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return orderNumber;
+		};
+	}
+
+	private void awaitExecutions(int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (executions.get() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.orderservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderExportServiceTests {
+
+	@Test
+	void quotesCsvFieldsOnlyWhenNeeded() {
+		assertThat(OrderExportService.csvField("ORD-02AIQKJWIR479")).isEqualTo("ORD-02AIQKJWIR479");
+		assertThat(OrderExportService.csvField(null)).isEmpty();
+		assertThat(OrderExportService.csvField("Main St, 5")).isEqualTo("\"Main St, 5\"");
+		assertThat(OrderExportService.csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+		assertThat(OrderExportService.csvField("two\r\nlines")).isEqualTo("\"two\r\nlines\"");
+	}
+}
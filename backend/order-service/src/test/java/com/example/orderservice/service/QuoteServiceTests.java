@@ -0,0 +1,80 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.QuoteResponse;
+import com.example.orderservice.dto.VoucherResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuoteServiceTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+	private static final Map<Long, BigDecimal> PRICES = Map.of(1L, new BigDecimal("2.50"), 2L, new BigDecimal("10.00"));
+
+	@Test
+	void pricesLinesAndReportsShortStock() {
+		QuoteResponse quote = QuoteService.buildQuote(quantities(1L, 4, 2L, 3), PRICES, Map.of(1L, 100, 2L, 2),
+				null, null, NOW);
+
+		assertThat(quote.getSubtotal()).isEqualByComparingTo("40.00");
+		assertThat(quote.getTotal()).isEqualByComparingTo("40.00");
+		assertThat(quote.getLines()).extracting("inStock").containsExactly(true, false);
+		assertThat(quote.isInStock()).isFalse();
+	}
+
+	@Test
+	void appliesRedeemableVoucherWithoutUsingItUp() {
+		VoucherResponse voucher = voucher("PERCENTAGE", 10.0, 4, 5);
+
+		QuoteResponse quote = QuoteService.buildQuote(quantities(2L, 3), PRICES, Map.of(2L, 10), "SUMMER", voucher, NOW);
+
+		assertThat(quote.isVoucherApplied()).isTrue();
+		assertThat(quote.getTotal()).isEqualByComparingTo("27.00");
+		assertThat(voucher.getUsedCount()).isEqualTo(4);
+	}
+
+	@Test
+	void ignoresVoucherAtItsUsageLimitOrBelowMinimumAmount() {
+		VoucherResponse exhausted = voucher("FIXED", 5.0, 5, 5);
+		VoucherResponse minimum = voucher("FIXED", 5.0, 0, 5);
+		minimum.setMinOrderAmount(50.0);
+
+		assertThat(QuoteService.buildQuote(quantities(2L, 3), PRICES, Map.of(), "X", exhausted, NOW).isVoucherApplied()).isFalse();
+		assertThat(QuoteService.buildQuote(quantities(2L, 3), PRICES, Map.of(), "X", minimum, NOW).isVoucherApplied()).isFalse();
+	}
+
+	@Test
+	void rejectsUnpricedProducts() {
+		assertThatThrownBy(() -> QuoteService.buildQuote(quantities(3L, 1), PRICES, Map.of(), null, null, NOW))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("product 3");
+	}
+
+	private static Map<Long, Integer> quantities(Object... productsAndQuantities) {
+		Map<Long, Integer> quantities = new LinkedHashMap<>();
+		for (int i = 0; i < productsAndQuantities.length; i += 2) {
+			quantities.put((Long) productsAndQuantities[i], (Integer) productsAndQuantities[i + 1]);
+		}
+		return quantities;
+	}
+
+	private static VoucherResponse voucher(String type, double value, int usedCount, int usageLimit) {
+		return VoucherResponse.builder()
+				.code("SUMMER")
+				.discountType(type)
+				.value(value)
+				.usedCount(usedCount)
+				.usageLimit(usageLimit)
+				.validFrom(NOW.minusDays(1))
+				.validUntil(NOW.plusDays(1))
+				.active(true)
+				.build();
+	}
+}
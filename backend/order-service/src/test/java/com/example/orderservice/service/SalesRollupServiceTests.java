@@ -0,0 +1,91 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.event.OrderPlacedEvent;
+import com.example.orderservice.event.OrderStatusChangedEvent;
+import com.example.orderservice.model.Order;
+import com.example.orderservice.model.OrderItem;
+import com.example.orderservice.model.OrderStatus;
+import com.example.orderservice.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({SalesRollupService.class, CustomerOrderSummaryService.class, ReadModelRows.class})
+class SalesRollupServiceTests {
+
+	private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+	@Autowired
+	private SalesRollupService salesRollupService;
+
+	@Autowired
+	private CustomerOrderSummaryService customerOrderSummaryService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void placedOrdersAreAddedAndCancelledOnesSubtracted() {
+		Order first = place("ORD-ROLLUP000001", 2, "10.00");
+		place("ORD-ROLLUP000002", 3, "10.00");
+
+		assertThat(salesRollupService.getDailySales(ORDER_DATE.toLocalDate(), ORDER_DATE.toLocalDate()))
+				.singleElement()
+				.satisfies(day -> {
+					assertThat(day.getOrderCount()).isEqualTo(2);
+					assertThat(day.getUnitsSold()).isEqualTo(5);
+					assertThat(day.getRevenue()).isEqualByComparingTo("50.00");
+				});
+		assertThat(customerOrderSummaryService.getSummary(7L).getOrderCount()).isEqualTo(2);
+
+		first.setStatus(OrderStatus.CANCELLED);
+		OrderStatusChangedEvent cancelled = OrderStatusChangedEvent.of(first, OrderStatus.NEW, OrderStatus.CANCELLED);
+		salesRollupService.onOrderStatusChanged(cancelled);
+		customerOrderSummaryService.onOrderStatusChanged(cancelled);
+		// The rollups were read into this test's persistence context before the cancellation changed them
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(salesRollupService.getProductSales(1L).getUnitsSold()).isEqualTo(3);
+		assertThat(salesRollupService.getProductSales(1L).getRevenue()).isEqualByComparingTo("30.00");
+		assertThat(salesRollupService.getTierSales())
+				.singleElement()
+				.satisfies(tier -> assertThat(tier.getOrderCount()).isEqualTo(1));
+		assertThat(salesRollupService.getDailySales(ORDER_DATE.toLocalDate(), ORDER_DATE.toLocalDate()).getFirst().getUnitsSold()).isEqualTo(3);
+		assertThat(customerOrderSummaryService.getSummary(7L).getLifetimeSpend()).isEqualByComparingTo("30.00");
+	}
+
+	private Order place(String orderNumber, int quantity, String unitPrice) {
+		Order order = Order.builder()
+				.orderNumber(orderNumber)
+				.customerId(7L)
+				.customerTier("GOLD")
+				.orderDate(ORDER_DATE)
+				.status(OrderStatus.NEW)
+				.totalAmount(new BigDecimal(unitPrice).multiply(BigDecimal.valueOf(quantity)))
+				.orderItems(new ArrayList<>())
+				.build();
+		order.getOrderItems().add(OrderItem.builder()
+				.productId(1L)
+				.quantity(quantity)
+				.unitPrice(new BigDecimal(unitPrice))
+				.order(order)
+				.build());
+		orderRepository.saveAndFlush(order);
+		salesRollupService.onOrderPlaced(OrderPlacedEvent.of(order));
+		customerOrderSummaryService.onOrderPlaced(OrderPlacedEvent.of(order));
+		return order;
+	}
+}
@@ -0,0 +1,96 @@
+package com.example.orderservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedOrderNumberGeneratorTests {
+
+	private static final long NOW = 1760000000000L;
+
+	@Test
+	void numbersHaveFixedWidthAndSortByCreation() {
+		AtomicLong clock = new AtomicLong(NOW);
+		TimeOrderedOrderNumberGenerator generator = new TimeOrderedOrderNumberGenerator(7, clock::get);
+
+		String first = generator.nextOrderNumber();
+		String second = generator.nextOrderNumber();
+		clock.addAndGet(1);
+		String third = generator.nextOrderNumber();
+
+		assertThat(List.of(first, second, third))
+				.allSatisfy(number -> assertThat(number).matches("ORD-[0-9A-Z]{13}"))
+				.isSorted()
+				.doesNotHaveDuplicates();
+	}
+
+	@Test
+	void staysMonotonicWhenClockGoesBackwards() {
+		AtomicLong clock = new AtomicLong(NOW);
+		TimeOrderedOrderNumberGenerator generator = new TimeOrderedOrderNumberGenerator(1, clock::get);
+
+		long before = generator.nextValue();
+		clock.addAndGet(-5_000);
+
+		assertThat(generator.nextValue()).isGreaterThan(before);
+	}
+
+	@Test
+	void fullSequenceCarriesIntoNextMillisecond() {
+		TimeOrderedOrderNumberGenerator generator = new TimeOrderedOrderNumberGenerator(1, () -> NOW);
+
+		long previous = generator.nextValue();
+		for (int i = 0; i < 10_000; i++) {
+			long next = generator.nextValue();
+			assertThat(next).isGreaterThan(previous);
+			previous = next;
+		}
+	}
+
+	@Test
+	void concurrentCallersNeverShareANumber() throws Exception {
+		TimeOrderedOrderNumberGenerator generator = new TimeOrderedOrderNumberGenerator(3, System::currentTimeMillis);
+		int threads = 8;
+		int perThread = 20_000;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<List<String>>> tasks = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				tasks.add(() -> {
+					List<String> numbers = new ArrayList<>(perThread);
+					for (int i = 0; i < perThread; i++) {
+						numbers.add(generator.nextOrderNumber());
+					}
+					return numbers;
+				});
+			}
+			Set<String> all = new HashSet<>();
+			for (Future<List<String>> result : executor.invokeAll(tasks)) {
+				List<String> numbers = result.get();
+				assertThat(numbers).isSorted();
+				all.addAll(numbers);
+			}
+			assertThat(all).hasSize(threads * perThread);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void rejectsNodeIdOutOfRange() {
+		assertThatThrownBy(() -> new TimeOrderedOrderNumberGenerator(1024, () -> NOW))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
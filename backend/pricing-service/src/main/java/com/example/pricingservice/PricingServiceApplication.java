@@ -12,6 +12,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
 
 @SpringBootApplication
 @EnableDiscoveryClient
@@ -22,6 +23,7 @@ public class PricingServiceApplication {
 	}
 
 	@Bean
+	@Profile("!synthetic")
 	public CommandLineRunner loadData(PricingService pricingService) {
 		return args -> {
 			// Set Prices for Products (assuming Product IDs 1, 2, 3 exist)
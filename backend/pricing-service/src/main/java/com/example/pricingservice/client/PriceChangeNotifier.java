@@ -0,0 +1,90 @@
+package com.example.pricingservice.client;
+
+import com.example.pricingservice.dto.PriceChangeNotification;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Tells every running order-service instance about committed price, promotion and voucher changes so
+ * they can drop their cached prices. Delivery is best effort: an instance that misses a notification
+ * serves the old price until its cache entry expires. Notifications are sent from a single background
+ * thread, so a slow or unreachable instance never holds up the request that made the change.
+ */
+@Component
+@Slf4j
+public class PriceChangeNotifier {
+
+    private final DiscoveryClient discoveryClient;
+    private final RestClient restClient;
+    private final String serviceId;
+    private final ThreadPoolTaskExecutor executor;
+
+    public PriceChangeNotifier(DiscoveryClient discoveryClient,
+                               ObservationRegistry observationRegistry,
+                               @Value("${pricing.notifications.service-id:order-service}") String serviceId,
+                               @Value("${pricing.notifications.connect-timeout:1s}") Duration connectTimeout,
+                               @Value("${pricing.notifications.read-timeout:2s}") Duration readTimeout,
+                               @Value("${pricing.notifications.queue-capacity:100}") int queueCapacity) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.discoveryClient = discoveryClient;
+        this.serviceId = serviceId;
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .observationRegistry(observationRegistry)
+                .build();
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("price-change-notifier-");
+        // Keeps the notification in the trace of the change that caused it
+        this.executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        this.executor.initialize();
+    }
+
+    // Only after commit, so an instance that reloads right away cannot read the old row again
+    @TransactionalEventListener
+    public void onChange(PriceChangeNotification notification) {
+        try {
+            executor.execute(() -> notifyInstances(notification));
+        } catch (RejectedExecutionException e) {
+            log.warn("Notification queue is full, dropping {} change", notification.getType());
+        }
+    }
+
+    private void notifyInstances(PriceChangeNotification notification) {
+        for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+            try {
+                restClient.post()
+                        .uri(instance.getUri().resolve("/internal/price-changes"))
+                        .body(notification)
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch (RestClientException e) {
+                log.warn("Could not notify {} at {} of {} change: {}",
+                        serviceId, instance.getUri(), notification.getType(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
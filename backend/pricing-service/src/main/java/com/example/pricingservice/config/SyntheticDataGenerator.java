@@ -0,0 +1,153 @@
+package com.example.pricingservice.config;
+
+import com.example.synthetic.BatchInserter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.example.synthetic.SyntheticCatalog.listPrice;
+
+/**
+ * Seeds prices for products 1..n, promotions and vouchers in place of the sample pricing data when the
+ * "synthetic" profile is active. Part of the products also keep an expired price row, as products
+ * repriced over time do. Promotions are mostly on popular products (low ids, as in order-service's
+ * generator) and about half of them are running now. Rows are written with batched JDBC inserts; identity
+ * ids are not batched by Hibernate. No change notifications are sent for generated data.
+ */
+@Component
+@Profile("synthetic")
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String INSERT_PRICE = "INSERT INTO price "
+            + "(product_id, current_price, start_date, end_date) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_PROMOTION = "INSERT INTO promotion "
+            + "(name, description, promotion_type, promotion_value, start_date, end_date, conditions) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PROMOTION_PRODUCT = "INSERT INTO promotion_products (promotion_id, product_ids) VALUES (?, ?)";
+    private static final String INSERT_VOUCHER = "INSERT INTO voucher "
+            + "(code, discount_type, voucher_value, min_order_amount, usage_limit, used_count, valid_from, valid_until, active) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final int products;
+    private final int promotions;
+    private final int vouchers;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  @Value("${synthetic.seed:42}") long seed,
+                                  @Value("${synthetic.products:10000}") int products,
+                                  @Value("${synthetic.promotions:500}") int promotions,
+                                  @Value("${synthetic.vouchers:1000}") int vouchers,
+                                  @Value("${synthetic.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.products = products;
+        this.promotions = promotions;
+        this.vouchers = vouchers;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!BatchInserter.isEmpty(jdbcTemplate, "price")) {
+            log.info("Database already contains prices. Skipping synthetic data generation.");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+        generatePrices(random, now);
+        generatePromotions(random, now);
+        generateVouchers(random, now);
+        log.info("Generated prices for {} products, {} promotions and {} vouchers in {}ms", products, promotions,
+                vouchers, System.currentTimeMillis() - started);
+    }
+
+    private void generatePrices(Random random, LocalDateTime now) {
+        BatchInserter inserter = new BatchInserter(jdbcTemplate, INSERT_PRICE, batchSize);
+        for (long productId = 1; productId <= products; productId++) {
+            LocalDateTime repricedAt = now.minusDays(1 + random.nextInt(180));
+            if (random.nextDouble() < 0.3) {
+                BigDecimal oldPrice = listPrice(productId).multiply(BigDecimal.valueOf(0.8 + 0.4 * random.nextDouble()))
+                        .setScale(2, RoundingMode.HALF_UP);
+                inserter.add(productId, oldPrice,
+                        Timestamp.valueOf(repricedAt.minusDays(365)), Timestamp.valueOf(repricedAt.minusSeconds(1)));
+            }
+            inserter.add(productId, listPrice(productId),
+                    Timestamp.valueOf(repricedAt), Timestamp.valueOf(now.plusYears(1)));
+        }
+        inserter.flush();
+    }
+
+    private void generatePromotions(Random random, LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>(promotions);
+        for (int i = 1; i <= promotions; i++) {
+            boolean percentage = random.nextBoolean();
+            // Half of the promotions run now, the others ended at some point in the last year
+            LocalDateTime start = random.nextBoolean()
+                    ? now.minusDays(random.nextInt(14) + 1)
+                    : now.minusDays(30 + random.nextInt(335));
+            LocalDateTime end = start.plusDays(3 + random.nextInt(27));
+            rows.add(new Object[]{
+                    "Promotion " + i,
+                    "Synthetic promotion " + i,
+                    percentage ? "PercentageDiscount" : "FixedDiscount",
+                    percentage ? 0.05 * (1 + random.nextInt(6)) : 0.10 * (1 + random.nextInt(10)),
+                    Timestamp.valueOf(start),
+                    Timestamp.valueOf(end),
+                    null});
+        }
+        jdbcTemplate.batchUpdate(INSERT_PROMOTION, rows);
+
+        List<Long> promotionIds = jdbcTemplate.queryForList("SELECT id FROM promotion ORDER BY id", Long.class);
+        BatchInserter inserter = new BatchInserter(jdbcTemplate, INSERT_PROMOTION_PRODUCT, batchSize);
+        for (Long promotionId : promotionIds) {
+            Set<Long> productIds = new LinkedHashSet<>();
+            int size = 1 + random.nextInt(Math.min(20, products));
+            while (productIds.size() < size) {
+                // Squaring a uniform draw concentrates promotions on the low, most popular ids
+                double u = random.nextDouble();
+                productIds.add(1 + (long) (u * u * products));
+            }
+            for (Long productId : productIds) {
+                inserter.add(promotionId, productId);
+            }
+        }
+        inserter.flush();
+    }
+
+    private void generateVouchers(Random random, LocalDateTime now) {
+        BatchInserter inserter = new BatchInserter(jdbcTemplate, INSERT_VOUCHER, batchSize);
+        for (int i = 1; i <= vouchers; i++) {
+            boolean percentage = random.nextBoolean();
+            int usageLimit = 10 + random.nextInt(990);
+            LocalDateTime validFrom = now.minusDays(random.nextInt(60));
+            inserter.add(
+                    String.format("SYN%06d", i),
+                    percentage ? "PERCENTAGE" : "FIXED",
+                    percentage ? 5.0 * (1 + random.nextInt(6)) : 1.0 * (1 + random.nextInt(20)),
+                    random.nextBoolean() ? null : 10.0 * (1 + random.nextInt(10)),
+                    usageLimit,
+                    random.nextInt(usageLimit + 1),
+                    Timestamp.valueOf(validFrom),
+                    Timestamp.valueOf(validFrom.plusDays(7 + random.nextInt(83))),
+                    true);
+        }
+        inserter.flush();
+    }
+}
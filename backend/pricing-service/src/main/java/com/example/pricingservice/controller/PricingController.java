@@ -4,9 +4,12 @@ import com.example.pricingservice.dto.*;
 import com.example.pricingservice.service.PricingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/pricing")
@@ -27,6 +30,12 @@ public class PricingController {
         return pricingService.getProductPrice(productId);
     }
 
+    @PostMapping("/price/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    public Map<Long, BigDecimal> getEffectivePrices(@RequestBody List<Long> productIds) {
+        return pricingService.getEffectivePrices(productIds);
+    }
+
     @PostMapping("/promotion")
     @ResponseStatus(HttpStatus.CREATED)
     public void createPromotion(@RequestBody PromotionRequest promotionRequest) {
@@ -45,6 +54,12 @@ public class PricingController {
         pricingService.createVoucher(voucherRequest);
     }
 
+    // Read-only, so order-service can quote a basket without using up the voucher
+    @GetMapping("/voucher")
+    public ResponseEntity<VoucherResponse> getVoucher(@RequestParam String code) {
+        return ResponseEntity.of(pricingService.getVoucher(code));
+    }
+
     @GetMapping("/voucher/apply")
     @ResponseStatus(HttpStatus.OK)
     public BigDecimal applyVoucher(@RequestParam String voucherCode, @RequestParam BigDecimal orderTotal) {
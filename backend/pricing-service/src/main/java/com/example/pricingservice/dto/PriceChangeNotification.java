@@ -0,0 +1,24 @@
+package com.example.pricingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class PriceChangeNotification {
+    private ChangeType type;
+    private List<Long> productIds; // Empty when every product may be affected
+    private String voucherCode;
+
+    public enum ChangeType {
+        PRICE,
+        PROMOTION,
+        VOUCHER
+    }
+}
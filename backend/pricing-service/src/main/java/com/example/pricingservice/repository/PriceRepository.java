@@ -3,8 +3,9 @@ package com.example.pricingservice.repository;
 import com.example.pricingservice.model.Price;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface PriceRepository extends JpaRepository<Price, Long> {
-    Optional<Price> findByProductId(Long productId);
+    List<Price> findByProductIdIn(Collection<Long> productIds);
 }
@@ -2,10 +2,19 @@ package com.example.pricingservice.repository;
 
 import com.example.pricingservice.model.Promotion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PromotionRepository extends JpaRepository<Promotion, Long> {
     List<Promotion> findByProductIdsContainingAndStartDateBeforeAndEndDateAfter(Long productId, LocalDateTime now1, LocalDateTime now2);
+
+    // Fetches the full product list of each matching promotion in the same query
+    @Query("select distinct p from Promotion p left join fetch p.productIds "
+            + "where p.id in (select p2.id from Promotion p2 join p2.productIds productId where productId in :productIds) "
+            + "and p.startDate < :now and p.endDate > :now")
+    List<Promotion> findActiveByProductIds(@Param("productIds") Collection<Long> productIds, @Param("now") LocalDateTime now);
 }
@@ -9,13 +9,20 @@ import com.example.pricingservice.repository.PromotionRepository;
 import com.example.pricingservice.repository.VoucherRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +32,7 @@ public class PricingService {
     private final PriceRepository priceRepository;
     private final PromotionRepository promotionRepository;
     private final VoucherRepository voucherRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void setPrice(PriceRequest priceRequest) {
@@ -36,11 +44,18 @@ public class PricingService {
                 .build();
         priceRepository.save(price);
         log.info("Price set for productId: {} - {}", priceRequest.getProductId(), priceRequest.getCurrentPrice());
+        eventPublisher.publishEvent(PriceChangeNotification.builder()
+                .type(PriceChangeNotification.ChangeType.PRICE)
+                .productIds(List.of(priceRequest.getProductId()))
+                .build());
     }
 
     @Transactional(readOnly = true)
     public PriceResponse getProductPrice(Long productId) {
-        return priceRepository.findByProductId(productId)
+        // Same row getEffectivePrices would price the product with
+        LocalDateTime now = LocalDateTime.now();
+        return priceRepository.findByProductIdIn(List.of(productId)).stream()
+                .reduce((first, second) -> preferCurrentPrice(first, second, now))
                 .map(this::mapToPriceResponse)
                 .orElse(null); // Or throw an exception
     }
@@ -59,6 +74,10 @@ public class PricingService {
                 .build();
         promotionRepository.save(promotion);
         log.info("Promotion created: {}", promotionRequest.getName());
+        eventPublisher.publishEvent(PriceChangeNotification.builder()
+                .type(PriceChangeNotification.ChangeType.PROMOTION)
+                .productIds(promotion.getProductIds() == null ? List.of() : List.copyOf(promotion.getProductIds()))
+                .build());
     }
 
     @Transactional(readOnly = true)
@@ -66,6 +85,35 @@ public class PricingService {
         List<Promotion> activePromotions = promotionRepository.findByProductIdsContainingAndStartDateBeforeAndEndDateAfter(
                 productId, LocalDateTime.now(), LocalDateTime.now());
 
+        return applyPromotions(originalPrice, activePromotions);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, BigDecimal> getEffectivePrices(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> requestedIds = new HashSet<>(productIds);
+
+        // Rows without a price are skipped, so a product that has none is left out like an unknown one
+        Map<Long, Price> currentPrices = priceRepository.findByProductIdIn(requestedIds).stream()
+                .filter(price -> price.getCurrentPrice() != null)
+                .collect(Collectors.toMap(Price::getProductId, Function.identity(),
+                        (first, second) -> preferCurrentPrice(first, second, now)));
+        List<Promotion> activePromotions = promotionRepository.findActiveByProductIds(requestedIds, now);
+
+        Map<Long, BigDecimal> effectivePrices = new LinkedHashMap<>();
+        for (Price price : currentPrices.values()) {
+            List<Promotion> productPromotions = activePromotions.stream()
+                    .filter(promotion -> promotion.getProductIds().contains(price.getProductId()))
+                    .toList();
+            effectivePrices.put(price.getProductId(), applyPromotions(price.getCurrentPrice(), productPromotions));
+        }
+        return effectivePrices;
+    }
+
+    static BigDecimal applyPromotions(BigDecimal originalPrice, List<Promotion> activePromotions) {
         BigDecimal finalPrice = originalPrice;
         for (Promotion promotion : activePromotions) {
             // Simple logic: apply one promotion, more complex logic (e.g., best discount) can be added
@@ -94,6 +142,12 @@ public class PricingService {
                 .build();
         voucherRepository.save(voucher);
         log.info("Voucher created: {}", voucherRequest.getCode());
+        publishVoucherChange(voucher.getCode());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<VoucherResponse> getVoucher(String voucherCode) {
+        return voucherRepository.findByCode(voucherCode).map(this::mapToVoucherResponse);
     }
 
     @Transactional
@@ -109,14 +163,12 @@ public class PricingService {
                     (voucher.getValidUntil() == null || !now.isAfter(voucher.getValidUntil())) &&
                     (voucher.getMinOrderAmount() == null || orderTotal.compareTo(BigDecimal.valueOf(voucher.getMinOrderAmount())) >= 0)) {
 
-                BigDecimal discountedTotal = orderTotal;
-                if ("PERCENTAGE".equalsIgnoreCase(voucher.getDiscountType())) {
-                    discountedTotal = orderTotal.subtract(orderTotal.multiply(BigDecimal.valueOf(voucher.getVoucherValue()).divide(BigDecimal.valueOf(100))));
-                } else if ("FIXED".equalsIgnoreCase(voucher.getDiscountType())) {
-                    discountedTotal = orderTotal.subtract(BigDecimal.valueOf(voucher.getVoucherValue()));
-                }
+                BigDecimal discountedTotal = applyVoucherDiscount(voucher, orderTotal);
                 voucher.setUsedCount(voucher.getUsedCount() + 1);
                 voucherRepository.save(voucher);
+                if (voucher.getUsedCount() >= voucher.getUsageLimit()) {
+                    publishVoucherChange(voucherCode);
+                }
                 log.info("Voucher {} applied successfully. Discounted total: {}", voucherCode, discountedTotal);
                 return discountedTotal;
             } else {
@@ -129,6 +181,37 @@ public class PricingService {
         }
     }
 
+    static BigDecimal applyVoucherDiscount(Voucher voucher, BigDecimal orderTotal) {
+        if ("PERCENTAGE".equalsIgnoreCase(voucher.getDiscountType())) {
+            return orderTotal.subtract(orderTotal.multiply(BigDecimal.valueOf(voucher.getVoucherValue()).divide(BigDecimal.valueOf(100))));
+        } else if ("FIXED".equalsIgnoreCase(voucher.getDiscountType())) {
+            return orderTotal.subtract(BigDecimal.valueOf(voucher.getVoucherValue()));
+        }
+        return orderTotal;
+    }
+
+    private void publishVoucherChange(String voucherCode) {
+        eventPublisher.publishEvent(PriceChangeNotification.builder()
+                .type(PriceChangeNotification.ChangeType.VOUCHER)
+                .productIds(List.of())
+                .voucherCode(voucherCode)
+                .build());
+    }
+
+    // A product can have several price rows; the one valid now wins, then the most recently set
+    private Price preferCurrentPrice(Price first, Price second, LocalDateTime now) {
+        boolean firstActive = isActive(first, now);
+        if (firstActive != isActive(second, now)) {
+            return firstActive ? first : second;
+        }
+        return first.getId() > second.getId() ? first : second;
+    }
+
+    private boolean isActive(Price price, LocalDateTime now) {
+        return (price.getStartDate() == null || !now.isBefore(price.getStartDate()))
+                && (price.getEndDate() == null || !now.isAfter(price.getEndDate()));
+    }
+
     private PriceResponse mapToPriceResponse(Price price) {
         return PriceResponse.builder()
                 .id(price.getId())
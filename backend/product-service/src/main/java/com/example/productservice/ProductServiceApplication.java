@@ -10,6 +10,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
 
 @SpringBootApplication
 @EnableDiscoveryClient
@@ -20,6 +21,7 @@ public class ProductServiceApplication {
 	}
 
 	@Bean
+	@Profile("!synthetic")
 	public CommandLineRunner loadData(ProductService productService, CategoryService categoryService) {
 		return args -> {
 			// Create Categories
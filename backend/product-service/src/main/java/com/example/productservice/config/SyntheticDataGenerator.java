@@ -0,0 +1,83 @@
+package com.example.productservice.config;
+
+import com.example.synthetic.BatchInserter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.synthetic.SyntheticCatalog.listPrice;
+
+/**
+ * Seeds categories and products 1..n in place of the sample catalog when the "synthetic" profile is
+ * active. Rows are written with batched JDBC inserts; identity ids are not batched by Hibernate. Product
+ * prices follow the same rule as the pricing-service and order-service generators.
+ */
+@Component
+@Profile("synthetic")
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String INSERT_CATEGORY = "INSERT INTO category (name, description) VALUES (?, ?)";
+    private static final String INSERT_PRODUCT = "INSERT INTO product "
+            + "(name, description, price, image_url, category_id) VALUES (?, ?, ?, ?, ?)";
+    private static final String[] FRUITS = {"Apple", "Banana", "Orange", "Mango", "Grape", "Pear", "Peach",
+            "Plum", "Cherry", "Kiwi", "Lychee", "Durian", "Papaya", "Pineapple", "Strawberry", "Longan"};
+    private static final String[] VARIETIES = {"Organic", "Imported", "Local", "Premium", "Seedless", "Dried"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final int categories;
+    private final int products;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  @Value("${synthetic.seed:42}") long seed,
+                                  @Value("${synthetic.categories:50}") int categories,
+                                  @Value("${synthetic.products:10000}") int products,
+                                  @Value("${synthetic.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.categories = categories;
+        this.products = products;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!BatchInserter.isEmpty(jdbcTemplate, "product")) {
+            log.info("Database already contains products. Skipping synthetic data generation.");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+
+        List<Object[]> categoryRows = new ArrayList<>(categories);
+        for (int i = 1; i <= categories; i++) {
+            categoryRows.add(new Object[]{"Category " + i, "Synthetic category " + i});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY, categoryRows);
+        List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM category ORDER BY id", Long.class);
+
+        BatchInserter inserter = new BatchInserter(jdbcTemplate, INSERT_PRODUCT, batchSize);
+        for (long productId = 1; productId <= products; productId++) {
+            String name = VARIETIES[random.nextInt(VARIETIES.length)] + " " + FRUITS[random.nextInt(FRUITS.length)]
+                    + " #" + productId;
+            inserter.add(
+                    name,
+                    "Synthetic product " + productId,
+                    listPrice(productId),
+                    "https://example.com/images/products/" + productId + ".jpg",
+                    categoryIds.get(random.nextInt(categoryIds.size())));
+        }
+        inserter.flush();
+        log.info("Generated {} categories and {} products in {}ms", categories, products,
+                System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.synthetic;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects rows for one insert statement and writes them with JDBC batch updates of a fixed size. Generators
+ * write through JDBC because identity ids keep Hibernate from batching inserts. Call {@link #flush()} once
+ * the last row has been added.
+ */
+public class BatchInserter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+    private final int batchSize;
+    private final List<Object[]> batch;
+    private long rows;
+
+    public BatchInserter(JdbcTemplate jdbcTemplate, String sql, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = sql;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    // Ids only line up across the services' generated data when every table starts empty
+    public static boolean isEmpty(JdbcTemplate jdbcTemplate, String table) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return existing == null || existing == 0;
+    }
+
+    public void add(Object... row) {
+        batch.add(row);
+        rows++;
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    public void flush() {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            batch.clear();
+        }
+    }
+
+    public long rows() {
+        return rows;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.synthetic;
+
+import java.math.BigDecimal;
+
+/**
+ * Values that more than one service's generator derives from an id. Each service seeds its own database,
+ * so generated orders only agree with generated customers, products and prices when all of them compute
+ * these the same way; keep them here rather than in any one generator.
+ */
+public final class SyntheticCatalog {
+
+    private SyntheticCatalog() {
+    }
+
+    // List price of a product, in product-, pricing- and order-service
+    public static BigDecimal listPrice(long productId) {
+        return BigDecimal.valueOf(50 + productId * 7919 % 1950, 2);
+    }
+
+    // Membership level of a customer, in customer-service and on orders in order-service
+    public static String tierOf(long customerId) {
+        if (customerId % 20 == 0) {
+            return "Gold";
+        }
+        return customerId % 5 == 0 ? "Silver" : "Bronze";
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.tracing;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+import io.micrometer.tracing.exporter.SpanReporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Appends every finished span to a newline-delimited JSON file, one object per line, so a request can be
+ * followed through the gateway and the services it reached without running a tracing backend. Spans of
+ * one request share a {@code traceId}; {@code parentId} links them into a tree. Reporting runs on the
+ * span processor's thread, never on a request thread.
+ * <p>
+ * Writes are buffered and flushed at most once per {@link #FLUSH_INTERVAL}, so a crash can lose the last
+ * second of spans. Once the file reaches {@code maxSize} bytes it is renamed to {@code <file>.1}, replacing
+ * the previous one, and a new file is started; the spans kept on disk never exceed twice that size.
+ */
+public class FileSpanReporter implements SpanReporter, AutoCloseable {
+
+    static final Duration FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanReporter.class);
+
+    private final Path path;
+    private final Path rotated;
+    private final long maxSize;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private OutputStream out;
+    private long size;
+    private long lastFlush;
+
+    public FileSpanReporter(Path path, long maxSize) {
+        this.path = path.toAbsolutePath();
+        this.rotated = this.path.resolveSibling(this.path.getFileName() + ".1");
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public synchronized void report(FinishedSpan span) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("traceId", span.getTraceId());
+        line.put("spanId", span.getSpanId());
+        line.put("parentId", span.getParentId());
+        line.put("service", span.getLocalServiceName());
+        line.put("name", span.getName());
+        line.put("kind", span.getKind());
+        line.put("start", span.getStartTimestamp().toString());
+        line.put("durationMicros", ChronoUnit.MICROS.between(span.getStartTimestamp(), span.getEndTimestamp()));
+        line.put("tags", span.getTags());
+        if (span.getError() != null) {
+            line.put("error", span.getError().toString());
+        }
+        try {
+            byte[] bytes = (jsonMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8);
+            if (out != null && size + bytes.length > maxSize) {
+                rotate();
+            }
+            if (out == null) {
+                open();
+            }
+            out.write(bytes);
+            size += bytes.length;
+            long now = System.nanoTime();
+            if (now - lastFlush >= FLUSH_INTERVAL.toNanos()) {
+                out.flush();
+                lastFlush = now;
+            }
+        } catch (IOException e) {
+            log.warn("Could not write span {} to {}: {}", span.getSpanId(), path, e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(path.getParent());
+        out = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        size = Files.size(path);
+        lastFlush = System.nanoTime();
+        log.info("Writing spans to {}", path);
+    }
+
+    private void rotate() throws IOException {
+        close();
+        Files.move(path, rotated, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Records borrowing a connection as {@code jdbc.connection} and every statement execution as
+ * {@code jdbc.query}, so traces show pool waits and individual queries underneath the request that
+ * caused them. Work outside any observation, such as start-up data loading, is not recorded.
+ */
+public class ObservedDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public ObservedDataSource(DataSource dataSource, ObjectProvider<ObservationRegistry> observationRegistry) {
+        super(dataSource);
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ObservationRegistry registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+        if (registry.getCurrentObservation() == null) {
+            return super.getConnection();
+        }
+        Connection connection = Observation.createNotStarted("jdbc.connection", registry)
+                .observeChecked((Observation.CheckedCallable<Connection, SQLException>) super::getConnection);
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = invoke(method, connection, args);
+            if (result instanceof Statement statement && method.getName().startsWith("prepare")) {
+                return observed(statement, registry, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return observed(statement, registry, null);
+            }
+            return result;
+        });
+    }
+
+    private static Statement observed(Statement statement, ObservationRegistry registry, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(type, statement, (method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(method, statement, args);
+            }
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : "";
+            return Observation.createNotStarted("jdbc.query", registry)
+                    .lowCardinalityKeyValue("jdbc.method", method.getName())
+                    .highCardinalityKeyValue("jdbc.sql", sql)
+                    .observeChecked(() -> invoke(method, statement, args));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, T target, Invocation invocation) {
+        return (T) Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> invocation.invoke(method, args));
+    }
+
+    // Rethrows what the JDBC driver threw rather than the reflective wrapper
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface Invocation {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.tracing;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.exporter.SpanReporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+/**
+ * Tracing pieces shared by the services. The span file is opt-in through {@code tracing.file.enabled};
+ * JDBC observations are added to any service that has a {@link DataSource} and only show up in traces
+ * that are being sampled.
+ */
+@AutoConfiguration
+public class TracingSupportAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SpanReporter.class)
+    @ConditionalOnProperty(name = "tracing.file.enabled", havingValue = "true")
+    static class FileSpanReporterConfiguration {
+
+        @Bean
+        FileSpanReporter fileSpanReporter(
+                @Value("${tracing.file.path:traces/${spring.application.name:application}.ndjson}") Path path,
+                @Value("${tracing.file.max-size:100MB}") DataSize maxSize) {
+            return new FileSpanReporter(path, maxSize.toBytes());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({DataSource.class, DelegatingDataSource.class})
+    static class ObservedDataSourceConfiguration {
+
+        // Static, and the registry looked up lazily, so the post-processor does not pull observation beans in early
+        @Bean
+        static BeanPostProcessor observedDataSourcePostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ObservedDataSource)) {
+                        return new ObservedDataSource(dataSource, observationRegistry);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
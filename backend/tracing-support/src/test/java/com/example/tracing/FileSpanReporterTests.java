@@ -0,0 +1,47 @@
+package com.example.tracing;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileSpanReporterTests {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void rotatesOnceTheFileReachesItsMaximumSize() throws Exception {
+		Path file = dir.resolve("spans.ndjson");
+		try (FileSpanReporter reporter = new FileSpanReporter(file, 1024)) {
+			for (int i = 0; i < 20; i++) {
+				reporter.report(span("span-" + i));
+			}
+		}
+
+		Path rotated = dir.resolve("spans.ndjson.1");
+		assertThat(Files.size(file)).isLessThanOrEqualTo(1024);
+		assertThat(Files.size(rotated)).isLessThanOrEqualTo(1024);
+		assertThat(Files.readAllLines(file)).last().asString().contains("\"spanId\":\"span-19\"");
+	}
+
+	private static FinishedSpan span(String spanId) {
+		Instant start = Instant.parse("2026-01-01T00:00:00Z");
+		FinishedSpan span = mock(FinishedSpan.class);
+		when(span.getTraceId()).thenReturn("trace");
+		when(span.getSpanId()).thenReturn(spanId);
+		when(span.getName()).thenReturn("http get");
+		when(span.getStartTimestamp()).thenReturn(start);
+		when(span.getEndTimestamp()).thenReturn(start.plusMillis(3));
+		when(span.getTags()).thenReturn(Map.of("uri", "/api/order"));
+		return span;
+	}
+}
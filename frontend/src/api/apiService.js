@@ -109,10 +109,12 @@ export const convertUnits = (productId, quantity, fromUnit, toUnit) =>
 
 // --- Order Service API ---
 export const placeOrder = (orderRequest) => post("/order", orderRequest);
+export const quoteOrder = (quoteRequest) => post("/order/quote", quoteRequest); // { orderItems, voucherCode? }; reserves nothing
 export const getOrderById = (id) => get(`/order/${id}`);
 export const updateOrderStatus = (id, status) =>
     put(`/order/${id}/status?status=${status}`);
-export const getAllOrders = () => get("/order"); // Added for completeness
+export const getAllOrders = (params = {}) =>
+    get(`/order?${new URLSearchParams(params).toString()}`); // Paged: { content, page, size, totalElements, totalPages }
 
 // --- Customer & Membership Service API ---
 export const getAllCustomers = () => get("/customer"); // Added
@@ -4,30 +4,39 @@ import PlaceOrder from '../components/PlaceOrder';
 import { useNavigate } from 'react-router-dom';
 import { getAllOrders, getOrderById } from '../api/apiService';
 
+const PAGE_SIZE = 20;
+
 const OrderManagementPage = () => {
   const [showPlaceOrderForm, setShowPlaceOrderForm] = useState(false);
   const [orderIdSearch, setOrderIdSearch] = useState('');
   const [orders, setOrders] = useState([]);
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [totalElements, setTotalElements] = useState(0);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
   const navigate = useNavigate();
 
   useEffect(() => {
     if (!showPlaceOrderForm) {
-      fetchOrders();
+      fetchOrders(page);
     }
-  }, [showPlaceOrderForm]);
+  }, [showPlaceOrderForm, page]);
 
-  const fetchOrders = async () => {
+  const fetchOrders = async (pageToFetch) => {
     try {
       setLoading(true);
       setError(null);
-      const data = await getAllOrders();
-      setOrders(Array.isArray(data) ? data : []);
+      const data = await getAllOrders({ page: pageToFetch, size: PAGE_SIZE });
+      setOrders(Array.isArray(data?.content) ? data.content : []);
+      setTotalPages(data?.totalPages || 0);
+      setTotalElements(data?.totalElements || 0);
     } catch (err) {
       setError('Failed to fetch orders. You can still search by Order ID.');
       console.error('Error fetching orders:', err);
       setOrders([]);
+      setTotalPages(0);
+      setTotalElements(0);
     } finally {
       setLoading(false);
     }
@@ -35,7 +44,7 @@ const OrderManagementPage = () => {
 
   const handleOrderPlaced = (orderNumber) => {
     setShowPlaceOrderForm(false);
-    fetchOrders();
+    fetchOrders(page);
   };
 
   const handleSearchOrderById = async (e) => {
@@ -147,7 +156,7 @@ const OrderManagementPage = () => {
               </h5>
               <button 
                 className="btn btn-sm btn-outline-primary" 
-                onClick={fetchOrders}
+                onClick={() => fetchOrders(page)}
                 disabled={loading}
               >
                 <i className="bi bi-arrow-clockwise me-1"></i>
@@ -227,6 +236,32 @@ const OrderManagementPage = () => {
                       ))}
                     </tbody>
                   </table>
+                  <div className="d-flex justify-content-between align-items-center">
+                    <small className="text-muted">
+                      Showing {page * PAGE_SIZE + 1}-{page * PAGE_SIZE + orders.length} of {totalElements} orders
+                    </small>
+                    <div className="btn-group">
+                      <button
+                        className="btn btn-sm btn-outline-secondary"
+                        onClick={() => setPage(page - 1)}
+                        disabled={loading || page === 0}
+                      >
+                        <i className="bi bi-chevron-left me-1"></i>
+                        Previous
+                      </button>
+                      <button className="btn btn-sm btn-outline-secondary" disabled>
+                        Page {page + 1} of {Math.max(totalPages, 1)}
+                      </button>
+                      <button
+                        className="btn btn-sm btn-outline-secondary"
+                        onClick={() => setPage(page + 1)}
+                        disabled={loading || page + 1 >= totalPages}
+                      >
+                        Next
+                        <i className="bi bi-chevron-right ms-1"></i>
+                      </button>
+                    </div>
+                  </div>
                 </div>
               )}
             </div>
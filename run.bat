@@ -27,6 +27,14 @@ echo ========================================================
 echo    STARTING INFRASTRUCTURE...
 echo ========================================================
 
+:: --- STEP 0: Install the modules the services share ---
+for %%m in (tracing-support synthetic-data) do (
+    echo [+] Installing %%m...
+    pushd "backend\%%m"
+    call mvn -q install -DskipTests
+    popd
+)
+
 :: --- STEP 1: Start Discovery Service ---
 for /f "tokens=1,2 delims=:" %%a in ("%DISCOVERY_SVC%") do (
     call :LAUNCH "%%a" "%%b"
@@ -44,6 +44,13 @@ wait_for_port() {
     echo "✅ $name started!"
 }
 
+install_shared() {
+    for module in tracing-support synthetic-data; do
+        echo "📦 Installing $module"
+        (cd "$ROOT_DIR/backend/$module" && mvn -q install -DskipTests)
+    done
+}
+
 start_discovery() {
     for srv in "${!DISCOVERY[@]}"; do
         port=${DISCOVERY[$srv]}
@@ -106,6 +113,7 @@ stop_ports() {
 
 case "$1" in
 start)
+    install_shared
     start_discovery
     start_services
     start_gateway